@@ -4,17 +4,28 @@ import com.edson.domain.Anime;
 import com.edson.mapper.AnimeMapper;
 import com.edson.request.AnimePostRequest;
 import com.edson.request.AnimePutRequest;
+import com.edson.response.BatchGetResponse;
+import com.edson.response.BatchItemResponse;
 import com.edson.response.AnimeGetResponse;
 import com.edson.response.AnimePostResponse;
 import com.edson.service.AnimeService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
 import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/v1/animes")
@@ -23,19 +34,66 @@ import java.util.List;
 public class AnimeController {
     private final AnimeMapper mapper;
     private final AnimeService service;
+    private final ObjectMapper objectMapper;
+    private final SerializedListingCache listingCache = new SerializedListingCache();
+
+    /**
+     * Unfiltered catalog, serialized once per catalog validator and then written straight from the cached bytes.
+     */
+    @GetMapping(params = {"!name", "!fields", "!ids"})
+    public ResponseEntity<byte[]> findAllUnfiltered(@RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                                    WebRequest request) throws IOException {
+        log.info("find all anime");
+        return listingCache.respond(service.validator(), acceptEncoding, request,
+                () -> objectMapper.writeValueAsBytes(mapper.toGetResponse(service.list(null))));
+    }
 
     @GetMapping
-    public ResponseEntity<List<AnimeGetResponse>> findAll(@RequestParam(required = false) String name) {
+    public ResponseEntity<List<AnimeGetResponse>> findAll(@RequestParam(required = false) String name,
+                                                          @RequestParam(required = false) Set<String> fields,
+                                                          WebRequest request) {
         log.info("find all anime by name: {}", name);
-        List<Anime> response = service.list(name);
-        return ResponseEntity.ok(mapper.toGetResponse(response));
+        var eTag = service.validator();
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        var projected = fields != null && !fields.isEmpty();
+        List<Anime> response = projected ? service.list(name, fields) : service.list(name);
+        var body = projected ? mapper.toGetResponse(response, fields) : mapper.toGetResponse(response);
+        return ResponseEntity.ok().eTag(eTag).body(body);
+    }
+
+    @GetMapping(params = "ids")
+    public ResponseEntity<BatchGetResponse<AnimeGetResponse>> findAllById(@RequestParam @Size(min = 1, max = 1000) List<Long> ids) {
+        log.info("find animes by ids: {}", ids);
+        var requestedIds = ids.stream().distinct().toList();
+        var animes = service.findAllById(requestedIds);
+        return ResponseEntity.ok(BatchGetResponse.of(requestedIds, mapper.toGetResponse(animes), AnimeGetResponse::id));
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(required = false) String name) {
+        log.info("export animes by name: {}", name);
+        var animes = service.list(name);
+        var writer = objectMapper.writerFor(AnimeGetResponse.class);
+        StreamingResponseBody body = outputStream -> {
+            for (var anime : animes) {
+                outputStream.write(writer.writeValueAsBytes(mapper.toGetResponse(anime)));
+                outputStream.write('\n');
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<AnimeGetResponse> findById(@PathVariable Long id) {
+    public ResponseEntity<AnimeGetResponse> findById(@PathVariable Long id, WebRequest request) {
         log.info("Find anime by id {}", id);
+        var eTag = service.validator();
         Anime anime = service.findByIdOrThrowNotFound(id);
-        return ResponseEntity.ok(mapper.toGetResponse(anime));
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).body(mapper.toGetResponse(anime));
     }
 
     @PostMapping
@@ -58,4 +116,20 @@ public class AnimeController {
         service.update(mapper.fromAnimePutRequestToEntity(requestBody));
         return ResponseEntity.noContent().build();
     }
+
+    @PutMapping("/batch")
+    public ResponseEntity<List<BatchItemResponse>> updateAll(@RequestBody @NotEmpty @Size(max = 1000) List<@Valid AnimePutRequest> requests) {
+        log.info("Update {} animes in batch", requests.size());
+        var animes = mapper.fromAnimePutRequestsToEntities(requests);
+        var updated = service.updateAll(animes);
+        var ids = animes.stream().map(Anime::id).toList();
+        return ResponseEntity.ok(BatchItemResponse.of(ids, updated, "Anime not found"));
+    }
+
+    @DeleteMapping(params = "ids")
+    public ResponseEntity<List<BatchItemResponse>> deleteAll(@RequestParam @Size(min = 1, max = 1000) List<Long> ids) {
+        log.info("Delete {} animes in batch", ids.size());
+        var deleted = service.deleteAll(ids);
+        return ResponseEntity.ok(BatchItemResponse.of(ids, deleted, "Anime not found"));
+    }
 }
@@ -4,17 +4,26 @@ import com.edson.domain.Producer;
 import com.edson.mapper.ProducerMapper;
 import com.edson.request.ProducerPostRequest;
 import com.edson.request.ProducerPutRequest;
+import com.edson.response.BatchGetResponse;
+import com.edson.response.BatchItemResponse;
 import com.edson.response.ProducerGetResponse;
 import com.edson.response.ProducerPostResponse;
 import com.edson.service.ProducerService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
 import java.util.List;
 
 @RestController
@@ -24,21 +33,64 @@ import java.util.List;
 public class ProducerController {
     private final ProducerMapper mapper;
     private final ProducerService service;
+    private final ObjectMapper objectMapper;
+    private final SerializedListingCache listingCache = new SerializedListingCache();
+
+    /**
+     * Unfiltered producers, serialized once per store validator and then written straight from the cached bytes.
+     */
+    @GetMapping(params = {"!name", "!ids"})
+    public ResponseEntity<byte[]> findAllUnfiltered(@RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                                    WebRequest request) throws IOException {
+        log.info("list all producers");
+        return listingCache.respond(service.validator(), acceptEncoding, request,
+                () -> objectMapper.writeValueAsBytes(mapper.toGetResponse(service.findAll(null))));
+    }
 
     @GetMapping
-    public ResponseEntity<List<ProducerGetResponse>> findAll(@RequestParam(required = false) String name) {
+    public ResponseEntity<List<ProducerGetResponse>> findAll(@RequestParam(required = false) String name, WebRequest request) {
         log.info("list all producers: {}", name);
+        var eTag = service.validator();
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
         List<Producer> response = service.findAll(name);
         List<ProducerGetResponse> producerGetResponses = mapper.toGetResponse(response);
-        return ResponseEntity.ok(producerGetResponses);
+        return ResponseEntity.ok().eTag(eTag).body(producerGetResponses);
+    }
+
+    @GetMapping(params = "ids")
+    public ResponseEntity<BatchGetResponse<ProducerGetResponse>> findAllById(@RequestParam @Size(min = 1, max = 1000) List<Long> ids) {
+        log.info("find producers by ids: {}", ids);
+        var requestedIds = ids.stream().distinct().toList();
+        var producers = service.findAllById(requestedIds);
+        return ResponseEntity.ok(BatchGetResponse.of(requestedIds, mapper.toGetResponse(producers), ProducerGetResponse::id));
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(required = false) String name) {
+        log.info("export producers by name: {}", name);
+        var producers = service.findAll(name);
+        var writer = objectMapper.writerFor(ProducerGetResponse.class);
+        StreamingResponseBody body = outputStream -> {
+            for (var producer : producers) {
+                outputStream.write(writer.writeValueAsBytes(mapper.toGetResponse(producer)));
+                outputStream.write('\n');
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ProducerGetResponse> findById(@PathVariable Long id) {
+    public ResponseEntity<ProducerGetResponse> findById(@PathVariable Long id, WebRequest request) {
         log.info("Find Producer by id {}", id);
+        var eTag = service.validator();
         Producer producer = service.findByIdOrThrowNotFound(id);
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
         ProducerGetResponse producerGetResponse = mapper.toGetResponse(producer);
-        return ResponseEntity.ok(producerGetResponse);
+        return ResponseEntity.ok().eTag(eTag).body(producerGetResponse);
     }
 
     @PostMapping(produces = MediaType.APPLICATION_JSON_VALUE,
@@ -67,4 +119,19 @@ public class ProducerController {
         return ResponseEntity.noContent().build();
     }
 
+    @PutMapping("/batch")
+    public ResponseEntity<List<BatchItemResponse>> updateAll(@RequestBody @NotEmpty @Size(max = 1000) List<@Valid ProducerPutRequest> requests) {
+        log.info("Update {} producers in batch", requests.size());
+        var producers = mapper.fromProducerPutRequestsToEntities(requests);
+        var updated = service.updateAll(producers);
+        var ids = producers.stream().map(Producer::id).toList();
+        return ResponseEntity.ok(BatchItemResponse.of(ids, updated, "Producer not found"));
+    }
+
+    @DeleteMapping(params = "ids")
+    public ResponseEntity<List<BatchItemResponse>> deleteAll(@RequestParam @Size(min = 1, max = 1000) List<Long> ids) {
+        log.info("Delete {} producers in batch", ids.size());
+        var deleted = service.deleteAll(ids);
+        return ResponseEntity.ok(BatchItemResponse.of(ids, deleted, "Producer not found"));
+    }
 }
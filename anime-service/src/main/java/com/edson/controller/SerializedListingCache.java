@@ -0,0 +1,105 @@
+package com.edson.controller;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Holds the last serialized listing, plain and gzipped, together with the store validator it was built from.
+ * <p>
+ * Entries are never invalidated explicitly: any write changes the store validator, the next request asks for
+ * the new validator and rebuilds the payload once. A payload built while a write was in flight may be newer than
+ * its validator, which only ever makes a client refetch, never serves stale data for the current validator.
+ */
+class SerializedListingCache {
+    private volatile Payload current;
+
+    /**
+     * Answers a listing request for the given store validator: 304 when the client's ETag still matches,
+     * otherwise the cached bytes, gzipped when the client accepts it. Each encoding gets its own strong ETag.
+     */
+    ResponseEntity<byte[]> respond(String validator, String acceptEncoding, WebRequest request, JsonSerializer serializer) throws IOException {
+        var gzip = acceptsGzip(acceptEncoding);
+        var eTag = gzip ? validator + "-gzip" : validator;
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).varyBy(HttpHeaders.ACCEPT_ENCODING).build();
+        }
+        var payload = get(validator, serializer);
+        var response = ResponseEntity.ok()
+                .eTag(eTag)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON);
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(payload.gzip());
+        }
+        return response.body(payload.json());
+    }
+
+    Payload get(String validator, JsonSerializer serializer) throws IOException {
+        var payload = current;
+        if (payload != null && payload.validator().equals(validator)) {
+            return payload;
+        }
+        var json = serializer.serialize();
+        payload = new Payload(validator, json, gzip(json));
+        current = payload;
+        return payload;
+    }
+
+    /**
+     * Whether {@code acceptEncoding} allows gzip: an explicit gzip entry decides on its own, otherwise {@code *}
+     * does. Either one is ruled out by {@code q=0}, so {@code *;q=0, gzip} still accepts gzip.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Boolean wildcard = null;
+        for (var coding : acceptEncoding.split(",")) {
+            var parts = coding.split(";");
+            var name = parts[0].trim();
+            if (name.equalsIgnoreCase("gzip")) {
+                return !isRejected(parts);
+            }
+            if (name.equals("*")) {
+                wildcard = !isRejected(parts);
+            }
+        }
+        return Boolean.TRUE.equals(wildcard);
+    }
+
+    private static boolean isRejected(String[] parts) {
+        for (var i = 1; i < parts.length; i++) {
+            var parameter = parts[i].replace(" ", "");
+            if (parameter.regionMatches(true, 0, "q=", 0, 2)) {
+                return parameter.substring(2).matches("0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    private static byte[] gzip(byte[] json) {
+        var buffer = new ByteArrayOutputStream(Math.max(64, json.length / 4));
+        try (var gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    record Payload(String validator, byte[] json, byte[] gzip) {
+    }
+
+    @FunctionalInterface
+    interface JsonSerializer {
+        byte[] serialize() throws IOException;
+    }
+}
@@ -1,6 +1,7 @@
 package com.edson.mapper;
 
 import com.edson.domain.Anime;
+import com.edson.repository.IdGenerator;
 import com.edson.request.AnimePostRequest;
 import com.edson.request.AnimePutRequest;
 import com.edson.response.AnimeGetResponse;
@@ -9,23 +10,41 @@ import com.edson.response.AnimePutResponse;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingConstants;
+import org.springframework.beans.factory.annotation.Autowired;
 
 import java.util.List;
+import java.util.Set;
 
 @Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
-public interface AnimeMapper {
+public abstract class AnimeMapper {
+    @Autowired
+    protected IdGenerator idGenerator;
 
     @Mapping(target = "createdAt", expression = "java(java.time.LocalDateTime.now())")
-    @Mapping(target = "id", expression = "java(java.util.concurrent.ThreadLocalRandom.current().nextLong(0, 100_000))")
-    Anime fromAnimePostRequestToEntity(AnimePostRequest animePostRequest);
+    @Mapping(target = "id", expression = "java(idGenerator.nextId())")
+    public abstract Anime fromAnimePostRequestToEntity(AnimePostRequest animePostRequest);
 
-    AnimePostResponse toPostResponse(Anime anime);
+    public abstract AnimePostResponse toPostResponse(Anime anime);
 
-    AnimeGetResponse toGetResponse(Anime anime);
+    public abstract AnimeGetResponse toGetResponse(Anime anime);
 
-    List<AnimeGetResponse> toGetResponse(List<Anime> animes);
+    public abstract List<AnimeGetResponse> toGetResponse(List<Anime> animes);
 
-    Anime fromAnimePutRequestToEntity(AnimePutRequest animePutRequest);
+    /**
+     * Maps only the requested {@code fields}, leaving the others null so they are not serialized either.
+     * Unknown field names are ignored, callers reject them beforehand.
+     */
+    public List<AnimeGetResponse> toGetResponse(List<Anime> animes, Set<String> fields) {
+        var withId = fields.contains("id");
+        var withName = fields.contains("name");
+        return animes.stream()
+                .map(anime -> new AnimeGetResponse(withId ? anime.id() : null, withName ? anime.name() : null))
+                .toList();
+    }
 
-    AnimePutResponse toPutResponse(Anime anime);
+    public abstract Anime fromAnimePutRequestToEntity(AnimePutRequest animePutRequest);
+
+    public abstract List<Anime> fromAnimePutRequestsToEntities(List<AnimePutRequest> animePutRequests);
+
+    public abstract AnimePutResponse toPutResponse(Anime anime);
 }
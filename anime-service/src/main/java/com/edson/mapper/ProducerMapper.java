@@ -1,6 +1,7 @@
 package com.edson.mapper;
 
 import com.edson.domain.Producer;
+import com.edson.repository.IdGenerator;
 import com.edson.request.ProducerPostRequest;
 import com.edson.request.ProducerPutRequest;
 import com.edson.response.ProducerGetResponse;
@@ -9,23 +10,28 @@ import com.edson.response.ProducerPutResponse;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingConstants;
+import org.springframework.beans.factory.annotation.Autowired;
 
 import java.util.List;
 
 @Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
-public interface ProducerMapper {
+public abstract class ProducerMapper {
+    @Autowired
+    protected IdGenerator idGenerator;
 
     @Mapping(target = "createdAt", expression = "java(java.time.LocalDateTime.now())")
-    @Mapping(target = "id", expression = "java(java.util.concurrent.ThreadLocalRandom.current().nextLong(0, 100_000))")
-    Producer fromProducerPostRequestToEntity(ProducerPostRequest request);
+    @Mapping(target = "id", expression = "java(idGenerator.nextId())")
+    public abstract Producer fromProducerPostRequestToEntity(ProducerPostRequest request);
 
-    ProducerPostResponse toPostResponse(Producer producer);
+    public abstract ProducerPostResponse toPostResponse(Producer producer);
 
-    ProducerGetResponse toGetResponse(Producer producer);
+    public abstract ProducerGetResponse toGetResponse(Producer producer);
 
-    List<ProducerGetResponse> toGetResponse(List<Producer> producer);
+    public abstract List<ProducerGetResponse> toGetResponse(List<Producer> producer);
 
-    Producer fromProducerPutRequestToEntity(ProducerPutRequest request);
+    public abstract Producer fromProducerPutRequestToEntity(ProducerPutRequest request);
 
-    ProducerPutResponse toPutResponse(Producer producer);
+    public abstract List<Producer> fromProducerPutRequestsToEntities(List<ProducerPutRequest> requests);
+
+    public abstract ProducerPutResponse toPutResponse(Producer producer);
 }
@@ -5,16 +5,15 @@ import lombok.Getter;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
 
 @Component
 @Getter
 public class AnimeData {
-    private final List<Anime> animes = new ArrayList<>();
+    private final InMemoryStore<Anime> animes = new InMemoryStore<>(Anime::id, Anime::name);
 
     {
-        animes.addAll(List.of(
+        animes.saveAll(List.of(
                 new Anime(1L, "Anime 01", LocalDateTime.now()),
                 new Anime(2L, "Anime 02", LocalDateTime.now()),
                 new Anime(3L, "Anime 03", LocalDateTime.now()),
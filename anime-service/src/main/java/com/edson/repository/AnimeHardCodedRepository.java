@@ -1,44 +1,59 @@
 package com.edson.repository;
 
 import com.edson.domain.Anime;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.BinaryOperator;
+import java.util.function.UnaryOperator;
 
 @Repository
+@Timed(value = "repository.invocations", description = "In-memory repository calls")
 @RequiredArgsConstructor
 public class AnimeHardCodedRepository {
     private final AnimeData animesData;
 
     public List<Anime> findAll(){
-        return animesData.getAnimes();
+        return animesData.getAnimes().findAll();
     }
 
     public Optional<Anime> findById(Long id){
-        return animesData.getAnimes().stream()
-                .filter(anime -> anime.id().equals(id))
-                .findFirst();
+        return animesData.getAnimes().findById(id);
+    }
+
+    public List<Anime> findAllById(Collection<Long> ids){
+        return animesData.getAnimes().findAllById(ids);
     }
 
     public List<Anime> findByName(String name){
-        return animesData.getAnimes().stream()
-                .filter(p -> p.name().equalsIgnoreCase(name))
-                .toList();
+        return animesData.getAnimes().findByName(name);
     }
 
     public Anime save(Anime anime){
-        animesData.getAnimes().add(anime);
-        return anime;
+        return animesData.getAnimes().save(anime);
     }
 
     public void delete(Anime anime) {
-        animesData.getAnimes().removeIf(p -> p.id().equals(anime.id()));
+        animesData.getAnimes().deleteById(anime.id());
+    }
+
+    public Optional<Anime> update(Long id, UnaryOperator<Anime> remapping) {
+        return animesData.getAnimes().update(id, remapping);
+    }
+
+    public List<Boolean> updateAll(List<Anime> animes, BinaryOperator<Anime> remapping) {
+        return animesData.getAnimes().updateAll(animes, remapping);
+    }
+
+    public List<Boolean> deleteAllById(List<Long> ids) {
+        return animesData.getAnimes().deleteAllById(ids);
     }
 
-    public void update(Anime entity) {
-        delete(entity);
-        save(entity);
+    public String validator() {
+        return animesData.getAnimes().validator();
     }
 }
@@ -0,0 +1,9 @@
+package com.edson.repository;
+
+/**
+ * Allocates ids for new entities. Implementations must be thread-safe and never hand out
+ * the same id twice.
+ */
+public interface IdGenerator {
+    long nextId();
+}
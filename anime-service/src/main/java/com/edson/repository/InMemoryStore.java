@@ -0,0 +1,273 @@
+package com.edson.repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.function.UnaryOperator;
+
+/**
+ * Thread-safe in-memory storage indexed by the entity id.
+ * <p>
+ * Lookups by id hit a concurrent hash index and never block. Writers are serialized by a
+ * {@link ReentrantLock} (which, unlike {@code synchronized}, does not pin virtual threads)
+ * and keep the hash index, the insertion-ordered view and the case-insensitive name index in sync.
+ * Name buckets are immutable lists replaced on every write, so readers never see a partial update.
+ * <p>
+ * {@link #findAll()} hands out an immutable snapshot. Writers only discard the published snapshot;
+ * the first reader after a write rebuilds it once and every following reader gets it back
+ * without locking or copying until the next write.
+ * <p>
+ * Every write bumps {@link #version()}, so callers can tell whether anything changed since they
+ * last looked without reading the entities. The counter starts over on every boot and on every node,
+ * so {@link #validator()} qualifies it with a random epoch drawn when the store is created.
+ */
+public class InMemoryStore<T> {
+    private final ToLongFunction<T> idExtractor;
+    private final Function<T, String> nameExtractor;
+    private final Map<Long, T> index = new ConcurrentHashMap<>();
+    private final Map<String, List<T>> nameIndex = new ConcurrentHashMap<>();
+    private final Map<Long, T> insertionOrder = new LinkedHashMap<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final String epoch = Long.toHexString(ThreadLocalRandom.current().nextLong());
+    private volatile List<T> snapshot = List.of();
+    private volatile long version;
+
+    public InMemoryStore(ToLongFunction<T> idExtractor, Function<T, String> nameExtractor) {
+        this.idExtractor = idExtractor;
+        this.nameExtractor = nameExtractor;
+    }
+
+    public List<T> findAll() {
+        var current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        writeLock.lock();
+        try {
+            if (snapshot == null) {
+                snapshot = List.copyOf(insertionOrder.values());
+            }
+            return snapshot;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public Optional<T> findById(Long id) {
+        return id == null ? Optional.empty() : Optional.ofNullable(index.get(id));
+    }
+
+    /**
+     * Multi-get over the id index, returning the entities found in the order of {@code ids}.
+     */
+    public List<T> findAllById(Collection<Long> ids) {
+        var entities = new ArrayList<T>(ids.size());
+        for (var id : ids) {
+            var entity = id == null ? null : index.get(id);
+            if (entity != null) {
+                entities.add(entity);
+            }
+        }
+        return entities;
+    }
+
+    public List<T> findByName(String name) {
+        return name == null ? List.of() : nameIndex.getOrDefault(normalize(name), List.of());
+    }
+
+    public T save(T entity) {
+        var id = idExtractor.applyAsLong(entity);
+        writeLock.lock();
+        try {
+            var previous = insertionOrder.put(id, entity);
+            index.put(id, entity);
+            if (previous != null) {
+                removeFromNameIndex(previous);
+            }
+            addToNameIndex(entity);
+            snapshot = null;
+            version++;
+            return entity;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Atomically replaces the entity stored under {@code id} with the result of {@code remapping},
+     * keeping its position in {@link #findAll()}.
+     *
+     * @return the previous entity, or an empty optional when nothing is stored under {@code id}
+     */
+    public Optional<T> update(Long id, UnaryOperator<T> remapping) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        writeLock.lock();
+        try {
+            var previous = insertionOrder.get(id);
+            if (previous == null) {
+                return Optional.empty();
+            }
+            var updated = remapping.apply(previous);
+            if (idExtractor.applyAsLong(updated) != id) {
+                throw new IllegalArgumentException("Update must not change the id " + id);
+            }
+            save(updated);
+            return Optional.of(previous);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public void saveAll(List<T> entities) {
+        writeLock.lock();
+        try {
+            entities.forEach(this::save);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Applies every update under a single lock acquisition, so other writers and {@link #findAll()} see
+     * either none or all of them. Each entity replaces the one stored under its id through {@code remapping},
+     * which receives the previous and the requested entity. Every item is remapped and checked before the
+     * first one is written, so an invalid item leaves the store untouched.
+     *
+     * @return for each entity, in order, whether something was stored under its id and got replaced
+     * @throws IllegalArgumentException when an entity has no id or {@code remapping} changes it
+     */
+    public List<Boolean> updateAll(List<T> entities, BinaryOperator<T> remapping) {
+        var results = new ArrayList<Boolean>(entities.size());
+        writeLock.lock();
+        try {
+            var pending = new LinkedHashMap<Long, T>();
+            for (var entity : entities) {
+                var id = requireId(entity);
+                var previous = pending.containsKey(id) ? pending.get(id) : insertionOrder.get(id);
+                if (previous == null) {
+                    results.add(false);
+                    continue;
+                }
+                var updated = remapping.apply(previous, entity);
+                if (requireId(updated) != id) {
+                    throw new IllegalArgumentException("Update must not change the id " + id);
+                }
+                pending.put(id, updated);
+                results.add(true);
+            }
+            pending.values().forEach(this::save);
+            return results;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Removes every id under a single lock acquisition, see {@link #updateAll(List, BinaryOperator)}.
+     *
+     * @return for each id, in order, whether it was stored and got removed
+     */
+    public List<Boolean> deleteAllById(List<Long> ids) {
+        var results = new ArrayList<Boolean>(ids.size());
+        writeLock.lock();
+        try {
+            for (var id : ids) {
+                var found = id != null && insertionOrder.containsKey(id);
+                if (found) {
+                    deleteById(id);
+                }
+                results.add(found);
+            }
+            return results;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public void deleteById(Long id) {
+        if (id == null) {
+            return;
+        }
+        writeLock.lock();
+        try {
+            var removed = insertionOrder.remove(id);
+            index.remove(id);
+            if (removed != null) {
+                removeFromNameIndex(removed);
+                snapshot = null;
+                version++;
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Modification counter of the whole store, only ever written while holding the write lock.
+     */
+    public long version() {
+        return version;
+    }
+
+    /**
+     * {@link #version()} prefixed with this store's epoch, e.g. {@code 5f3a9c0e1b2d4a67-12}. Two stores, on
+     * different nodes or across a restart, practically never hand out the same validator for different contents.
+     */
+    public String validator() {
+        return epoch + "-" + version;
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    private long requireId(T entity) {
+        try {
+            return idExtractor.applyAsLong(entity);
+        } catch (NullPointerException e) {
+            throw new IllegalArgumentException("Every entity of a batch needs an id", e);
+        }
+    }
+
+    private void addToNameIndex(T entity) {
+        var name = nameExtractor.apply(entity);
+        if (name == null) {
+            return;
+        }
+        nameIndex.compute(normalize(name), (key, bucket) -> {
+            var entities = bucket == null ? new ArrayList<T>(1) : new ArrayList<>(bucket);
+            entities.add(entity);
+            return List.copyOf(entities);
+        });
+    }
+
+    private void removeFromNameIndex(T entity) {
+        var name = nameExtractor.apply(entity);
+        if (name == null) {
+            return;
+        }
+        var id = idExtractor.applyAsLong(entity);
+        nameIndex.computeIfPresent(normalize(name), (key, bucket) -> {
+            var entities = bucket.stream()
+                    .filter(e -> idExtractor.applyAsLong(e) != id)
+                    .toList();
+            return entities.isEmpty() ? null : entities;
+        });
+    }
+
+    private static String normalize(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+}
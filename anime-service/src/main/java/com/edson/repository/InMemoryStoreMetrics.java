@@ -0,0 +1,30 @@
+package com.edson.repository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes the number of elements held by each in-memory store as {@code inmemory.store.size}.
+ */
+@Component
+@RequiredArgsConstructor
+public class InMemoryStoreMetrics implements MeterBinder {
+    private final AnimeData animeData;
+    private final ProducerData producerData;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bindSize(registry, "animes", animeData.getAnimes());
+        bindSize(registry, "producers", producerData.getProducers());
+    }
+
+    private static void bindSize(MeterRegistry registry, String store, InMemoryStore<?> inMemoryStore) {
+        Gauge.builder("inmemory.store.size", inMemoryStore, InMemoryStore::size)
+                .tag("store", store)
+                .description("Number of elements in the in-memory store")
+                .register(registry);
+    }
+}
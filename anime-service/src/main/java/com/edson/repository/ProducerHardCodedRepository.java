@@ -1,44 +1,59 @@
 package com.edson.repository;
 
 import com.edson.domain.Producer;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.BinaryOperator;
+import java.util.function.UnaryOperator;
 
 @Repository
+@Timed(value = "repository.invocations", description = "In-memory repository calls")
 @RequiredArgsConstructor
 public class ProducerHardCodedRepository {
     private final ProducerData producerData;
 
     public List<Producer> findAll(){
-        return producerData.getProducers();
+        return producerData.getProducers().findAll();
     }
 
     public Optional<Producer> findById(Long id){
-        return producerData.getProducers().stream()
-                .filter(producer -> producer.id().equals(id))
-                .findFirst();
+        return producerData.getProducers().findById(id);
+    }
+
+    public List<Producer> findAllById(Collection<Long> ids){
+        return producerData.getProducers().findAllById(ids);
     }
 
     public List<Producer> findByName(String name){
-        return producerData.getProducers().stream()
-                .filter(p -> p.name().equalsIgnoreCase(name))
-                .toList();
+        return producerData.getProducers().findByName(name);
     }
 
     public Producer save(Producer producer){
-        producerData.getProducers().add(producer);
-        return producer;
+        return producerData.getProducers().save(producer);
     }
 
     public void delete(Producer producer) {
-        producerData.getProducers().removeIf(p -> p.id().equals(producer.id()));
+        producerData.getProducers().deleteById(producer.id());
+    }
+
+    public Optional<Producer> update(Long id, UnaryOperator<Producer> remapping) {
+        return producerData.getProducers().update(id, remapping);
+    }
+
+    public List<Boolean> updateAll(List<Producer> producers, BinaryOperator<Producer> remapping) {
+        return producerData.getProducers().updateAll(producers, remapping);
+    }
+
+    public List<Boolean> deleteAllById(List<Long> ids) {
+        return producerData.getProducers().deleteAllById(ids);
     }
 
-    public void update(Producer entity) {
-        delete(entity);
-        save(entity);
+    public String validator() {
+        return producerData.getProducers().validator();
     }
 }
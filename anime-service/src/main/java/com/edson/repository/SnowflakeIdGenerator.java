@@ -0,0 +1,64 @@
+package com.edson.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Snowflake-style ids: 41 bits of milliseconds since {@link #EPOCH}, 4 bits of node id and
+ * 8 bits of sequence. Ids are unique across nodes with distinct node ids and strictly
+ * increasing per node.
+ * <p>
+ * The layout adds up to 53 bits on purpose: every id stays at or below {@link #MAX_ID}, the largest
+ * integer a JavaScript client can read from a JSON number without rounding it.
+ * <p>
+ * The timestamp and the sequence live in a single {@link AtomicLong}, so allocating an id is
+ * one lock-free compare-and-set. When a millisecond runs out of sequence numbers, or the clock
+ * moves backwards, the generator borrows the next millisecond instead of waiting.
+ */
+@Component
+public class SnowflakeIdGenerator implements IdGenerator {
+    static final long EPOCH = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+    static final int NODE_ID_BITS = 4;
+    static final int SEQUENCE_BITS = 8;
+    static final long MAX_ID = (1L << 53) - 1;
+    static final long MAX_NODE_ID = (1L << NODE_ID_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final long nodeId;
+    private final LongSupplier clock;
+    private final AtomicLong state = new AtomicLong();
+
+    @Autowired
+    public SnowflakeIdGenerator(@Value("${anime-service.id-generator.node-id:0}") long nodeId) {
+        this(nodeId, System::currentTimeMillis);
+    }
+
+    SnowflakeIdGenerator(long nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Node id must be between 0 and %d but was %d".formatted(MAX_NODE_ID, nodeId));
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
+
+    @Override
+    public long nextId() {
+        long next;
+        long last;
+        do {
+            last = state.get();
+            var lastTimestamp = last >>> SEQUENCE_BITS;
+            var now = clock.getAsLong() - EPOCH;
+            next = now > lastTimestamp ? now << SEQUENCE_BITS : last + 1;
+        } while (!state.compareAndSet(last, next));
+
+        var timestamp = next >>> SEQUENCE_BITS;
+        var sequence = next & SEQUENCE_MASK;
+        return timestamp << (NODE_ID_BITS + SEQUENCE_BITS) | nodeId << SEQUENCE_BITS | sequence;
+    }
+}
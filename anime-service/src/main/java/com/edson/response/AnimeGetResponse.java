@@ -1,4 +1,8 @@
 package com.edson.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+// fields left out of a ?fields= projection are null and not serialized
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record AnimeGetResponse(Long id, String name) {
 }
@@ -0,0 +1,27 @@
+package com.edson.response;
+
+import lombok.Builder;
+import org.springframework.http.HttpStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Builder
+public record BatchItemResponse(int index, int status, Long id, String message) {
+    /**
+     * One item per id, in order: 204 for the ids that were applied, 404 with {@code notFoundMessage} for the rest.
+     */
+    public static List<BatchItemResponse> of(List<Long> ids, List<Boolean> applied, String notFoundMessage) {
+        var items = new ArrayList<BatchItemResponse>(ids.size());
+        for (var index = 0; index < ids.size(); index++) {
+            var found = applied.get(index);
+            items.add(BatchItemResponse.builder()
+                    .index(index)
+                    .id(ids.get(index))
+                    .status(found ? HttpStatus.NO_CONTENT.value() : HttpStatus.NOT_FOUND.value())
+                    .message(found ? null : notFoundMessage)
+                    .build());
+        }
+        return items;
+    }
+}
@@ -4,20 +4,40 @@ import com.edson.domain.Anime;
 import com.edson.exception.NotFoundException;
 import com.edson.repository.AnimeHardCodedRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class AnimeService {
+    public static final List<String> PROJECTABLE_FIELDS = List.of("id", "name");
+
     private final AnimeHardCodedRepository repository;
 
     public List<Anime> list(String name){
         return  StringUtils.hasText(name) ? repository.findByName(name) : repository.findAll() ;
     }
 
+    /**
+     * Same as {@link #list(String)}, once every requested field is known to be projectable.
+     */
+    public List<Anime> list(String name, Set<String> fields) {
+        assertFieldsAreProjectable(fields);
+        return list(name);
+    }
+
+    /**
+     * The animes found for {@code ids}, in the order the ids were given. Unknown ids are skipped.
+     */
+    public List<Anime> findAllById(List<Long> ids){
+        return repository.findAllById(ids);
+    }
+
     public Anime findByIdOrThrowNotFound(Long id){
         return repository.findById(id).orElseThrow(() -> new NotFoundException("Anime not found"));
     }
@@ -32,8 +52,42 @@ public class AnimeService {
     }
 
     public void update(Anime anime) {
-        var oldAnime = findByIdOrThrowNotFound(anime.id());
-        var newAnime = anime.withCreatedAt(oldAnime.createdAt());
-        repository.update(newAnime);
+        repository.update(anime.id(), oldAnime -> anime.withCreatedAt(oldAnime.createdAt()))
+                .orElseThrow(() -> new NotFoundException("Anime not found"));
+    }
+
+    /**
+     * Updates every anime found in one atomic pass, keeping their creation dates.
+     *
+     * @return for each anime, in order, whether it existed and was updated
+     */
+    public List<Boolean> updateAll(List<Anime> animes) {
+        return repository.updateAll(animes, (oldAnime, anime) -> anime.withCreatedAt(oldAnime.createdAt()));
+    }
+
+    /**
+     * Deletes every id found in one atomic pass.
+     *
+     * @return for each id, in order, whether it existed and was deleted
+     */
+    public List<Boolean> deleteAll(List<Long> ids) {
+        return repository.deleteAllById(ids);
+    }
+
+    /**
+     * Changes on every anime write and differs between nodes and restarts, used as the ETag of conditional reads.
+     */
+    public String validator() {
+        return repository.validator();
+    }
+
+    private static void assertFieldsAreProjectable(Set<String> fields) {
+        var unknownFields = fields.stream()
+                .filter(field -> !PROJECTABLE_FIELDS.contains(field))
+                .sorted()
+                .toList();
+        if (!unknownFields.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown fields %s, expected any of %s".formatted(unknownFields, PROJECTABLE_FIELDS));
+        }
     }
 }
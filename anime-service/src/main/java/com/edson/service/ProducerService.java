@@ -17,6 +17,13 @@ public class ProducerService {
         return name == null ? repository.findAll() : repository.findByName(name);
     }
 
+    /**
+     * The producers found for {@code ids}, in the order the ids were given. Unknown ids are skipped.
+     */
+    public List<Producer> findAllById(List<Long> ids){
+        return repository.findAllById(ids);
+    }
+
     public Producer findByIdOrThrowNotFound(Long id){
         return repository.findById(id).orElseThrow(() -> new NotFoundException("Producer not found"));
     }
@@ -31,8 +38,32 @@ public class ProducerService {
     }
 
     public void update(Producer entity) {
-        var oldProducer = findByIdOrThrowNotFound(entity.id());
-        Producer newProducer = entity.withCreatedAt(oldProducer.createdAt());
-        repository.update(newProducer);
+        repository.update(entity.id(), oldProducer -> entity.withCreatedAt(oldProducer.createdAt()))
+                .orElseThrow(() -> new NotFoundException("Producer not found"));
+    }
+
+    /**
+     * Updates every producer found in one atomic pass, keeping their creation dates.
+     *
+     * @return for each producer, in order, whether it existed and was updated
+     */
+    public List<Boolean> updateAll(List<Producer> producers) {
+        return repository.updateAll(producers, (oldProducer, producer) -> producer.withCreatedAt(oldProducer.createdAt()));
+    }
+
+    /**
+     * Deletes every id found in one atomic pass.
+     *
+     * @return for each id, in order, whether it existed and was deleted
+     */
+    public List<Boolean> deleteAll(List<Long> ids) {
+        return repository.deleteAllById(ids);
+    }
+
+    /**
+     * Changes on every producer write and differs between nodes and restarts, used as the ETag of conditional reads.
+     */
+    public String validator() {
+        return repository.validator();
     }
 }
@@ -0,0 +1,79 @@
+package com.edson;
+
+import com.edson.domain.Anime;
+import com.edson.domain.Producer;
+import com.edson.loadtest.LoadTestDriver;
+import com.edson.loadtest.LoadTestScenario;
+import com.edson.loadtest.LoadTestSettings;
+import com.edson.repository.AnimeData;
+import com.edson.repository.ProducerData;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.List;
+
+/**
+ * Mixed read/write workload against a running anime-service, run with {@code mvn test -Pload-test}.
+ * Rate and duration come from {@link LoadTestSettings#fromSystemProperties()}, the report is written
+ * to {@code target/load-test}.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class AnimeServiceLoadTest {
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private AnimeData animeData;
+
+    @Autowired
+    private ProducerData producerData;
+
+    @Test
+    @DisplayName("mixed read/write workload on animes and producers completes without errors")
+    void mixedReadWriteWorkload() throws Exception {
+        var baseUri = "http://localhost:" + port;
+        var animeIds = animeData.getAnimes().findAll().stream().map(Anime::id).toList();
+        var producerIds = producerData.getProducers().findAll().stream().map(Producer::id).toList();
+
+        var scenarios = List.of(
+                new LoadTestScenario("GET /api/v1/animes", 30,
+                        seq -> HttpRequest.newBuilder(URI.create(baseUri + "/api/v1/animes"))),
+                new LoadTestScenario("GET /api/v1/animes/{id}", 25,
+                        seq -> HttpRequest.newBuilder(URI.create(baseUri + "/api/v1/animes/" + pick(animeIds, seq)))),
+                new LoadTestScenario("POST /api/v1/animes", 10,
+                        seq -> json(baseUri + "/api/v1/animes", "{\"name\":\"Load anime %d\"}".formatted(seq))),
+                new LoadTestScenario("GET /api/v1/producers", 15,
+                        seq -> HttpRequest.newBuilder(URI.create(baseUri + "/api/v1/producers"))),
+                new LoadTestScenario("GET /api/v1/producers/{id}", 10,
+                        seq -> HttpRequest.newBuilder(URI.create(baseUri + "/api/v1/producers/" + pick(producerIds, seq)))),
+                new LoadTestScenario("POST /api/v1/producers", 10,
+                        seq -> json(baseUri + "/api/v1/producers", "{\"name\":\"Load producer %d\"}".formatted(seq))
+                                .header("x-api-key", "123"))
+        );
+
+        try (var driver = new LoadTestDriver(scenarios)) {
+            var report = driver.run("anime-service", LoadTestSettings.fromSystemProperties());
+
+            Assertions.assertThat(report.total().requests()).isPositive();
+            Assertions.assertThat(report.total().errors()).isZero();
+        }
+    }
+
+    private static Long pick(List<Long> ids, long seq) {
+        return ids.get((int) (seq % ids.size()));
+    }
+
+    private static HttpRequest.Builder json(String uri, String body) {
+        return HttpRequest.newBuilder(URI.create(uri))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+    }
+}
@@ -0,0 +1,43 @@
+package com.edson;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class MetricsEndpointTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("GET /actuator/prometheus exposes endpoint histograms, repository timers and store sizes")
+    void prometheus_ExposesEndpointRepositoryAndStoreMetrics() throws Exception {
+        // Given
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/animes"))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        // When
+        var scrape = mockMvc.perform(MockMvcRequestBuilders.get("/actuator/prometheus"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        // Then
+        Assertions.assertThat(scrape)
+                .contains("http_server_requests_seconds_bucket{")
+                .containsPattern("http_server_requests_seconds_count\\{.*uri=\"/api/v1/animes\"")
+                .containsPattern("repository_invocations_seconds_bucket\\{class=\"com.edson.repository.AnimeHardCodedRepository\",.*method=\"findAll\"")
+                .contains("inmemory_store_size{store=\"animes\"}")
+                .contains("inmemory_store_size{store=\"producers\"}");
+    }
+}
@@ -7,9 +7,11 @@ import com.edson.mapper.AnimeMapper;
 import com.edson.request.AnimePostRequest;
 import com.edson.request.AnimePutRequest;
 import com.edson.response.AnimeGetResponse;
+import com.edson.response.BatchGetResponse;
 import com.edson.response.AnimePostResponse;
 import com.edson.service.AnimeService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Order;
@@ -20,6 +22,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.BDDMockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -28,9 +31,13 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
 
 import static org.mockito.BDDMockito.*;
 
@@ -80,17 +87,96 @@ class AnimeControllerTest {
         var expectedAnimes = List.of(animeGetResponse01, animeGetResponse02);
         var expectedJson = objectMapper.writeValueAsString(expectedAnimes);
 
+        given(service.validator()).willReturn("a1-6");
         given(service.list(null)).willReturn(List.of(anime01, anime02));
         given(mapper.toGetResponse(List.of(anime01, anime02))).willReturn(List.of(animeGetResponse01, animeGetResponse02));
 
         // When & Then
-        mockMvc.perform(MockMvcRequestBuilders.get(URI))
+        mockMvc.perform(MockMvcRequestBuilders.get(URI).header(HttpHeaders.IF_NONE_MATCH, "\"a1-5\""))
                 .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, "\"a1-6\""))
                 .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(MockMvcResultMatchers.jsonPath("$.length()").value(2))
                 .andExpect(MockMvcResultMatchers.content().json(expectedJson));
     }
 
+    @Test
+    @DisplayName("HTTP GET /api/v1/animes → 200 with the gzipped payload, serialized once per version")
+    void findAll_returnsCachedGzipPayload_whenClientAcceptsGzip() throws Exception {
+        // Given
+        var expectedJson = objectMapper.writeValueAsString(List.of(animeGetResponse01, animeGetResponse02));
+        given(service.validator()).willReturn("a1-21");
+        given(service.list(null)).willReturn(List.of(anime01, anime02));
+        given(mapper.toGetResponse(List.of(anime01, anime02))).willReturn(List.of(animeGetResponse01, animeGetResponse02));
+
+        // When
+        mockMvc.perform(MockMvcRequestBuilders.get(URI));
+        var response = mockMvc.perform(MockMvcRequestBuilders.get(URI).header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, "\"a1-21-gzip\""))
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andReturn().getResponse();
+
+        // Then
+        try (var gzip = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            Assertions.assertThat(new String(gzip.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(expectedJson);
+        }
+
+        // Auditing interactions
+        then(service).should(times(1)).list(null);
+        then(mapper).should(times(1)).toGetResponse(anyList());
+    }
+
+    @Test
+    @DisplayName("HTTP GET /api/v1/animes → 200 when the ETag only matches the version of another store epoch")
+    void findAll_returns200_whenETagComesFromAnotherEpoch() throws Exception {
+        // Given
+        given(service.validator()).willReturn("b2-9");
+        given(service.list("Anime01")).willReturn(List.of(anime01));
+        given(mapper.toGetResponse(List.of(anime01))).willReturn(List.of(animeGetResponse01));
+
+        // When & Then
+        mockMvc.perform(MockMvcRequestBuilders.get(URI).param("name", "Anime01").header(HttpHeaders.IF_NONE_MATCH, "\"a1-9\""))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, "\"b2-9\""));
+    }
+
+    @Test
+    @DisplayName("HTTP GET /api/v1/animes → 304 without listing or mapping when the ETag still matches")
+    void findAll_returns304_whenETagMatches() throws Exception {
+        // Given
+        given(service.validator()).willReturn("a1-7");
+
+        // When & Then
+        mockMvc.perform(MockMvcRequestBuilders.get(URI).header(HttpHeaders.IF_NONE_MATCH, "\"a1-7\""))
+                .andExpect(MockMvcResultMatchers.status().isNotModified())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, "\"a1-7\""))
+                .andExpect(MockMvcResultMatchers.content().string(""));
+
+        // Auditing interactions
+        then(service).should(never()).list(any());
+        then(mapper).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("HTTP GET /api/v1/animes?fields=name → 200 with only the requested fields")
+    void findAll_return200WithRequestedFields_whenFieldsAreGiven() throws Exception {
+        // Given
+        var animes = List.of(anime01, anime02);
+        given(service.list(null, Set.of("name"))).willReturn(animes);
+        given(mapper.toGetResponse(animes, Set.of("name")))
+                .willReturn(List.of(new AnimeGetResponse(null, "Anime01"), new AnimeGetResponse(null, "Anime02")));
+
+        // When & Then
+        mockMvc.perform(MockMvcRequestBuilders.get(URI).param("fields", "name"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().string("[{\"name\":\"Anime01\"},{\"name\":\"Anime02\"}]"));
+
+        // Auditing interactions
+        then(mapper).should(never()).toGetResponse(anyList());
+    }
+
     @Test
     @DisplayName("HTTP GET /api/v1/animes?name=Animes01 → 200 when name matches")
     @Order(2)
@@ -124,6 +210,7 @@ class AnimeControllerTest {
         var expectedJson = objectMapper.writeValueAsString(animesResponse);
 
         // Given
+        given(service.validator()).willReturn("a1-8");
         given(service.list(nameToFind)).willReturn(animes);
         given(mapper.toGetResponse(animes)).willReturn(animesResponse);
 
@@ -136,6 +223,49 @@ class AnimeControllerTest {
                 .andExpect(MockMvcResultMatchers.content().json(expectedJson));
     }
 
+    @Test
+    @DisplayName("HTTP GET /api/v1/animes/export → 200 with one JSON document per line")
+    void export_returns200AndNdjson() throws Exception {
+        // Given
+        var expectedBody = objectMapper.writeValueAsString(animeGetResponse01) + "\n"
+                + objectMapper.writeValueAsString(animeGetResponse02) + "\n";
+
+        given(service.list(null)).willReturn(List.of(anime01, anime02));
+        given(mapper.toGetResponse(anime01)).willReturn(animeGetResponse01);
+        given(mapper.toGetResponse(anime02)).willReturn(animeGetResponse02);
+
+        // When
+        var asyncResult = mockMvc.perform(MockMvcRequestBuilders.get(URI + "/export"))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(asyncResult))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(MockMvcResultMatchers.content().string(expectedBody));
+
+        // Auditing interactions
+        then(mapper).should(never()).toGetResponse(anyList());
+    }
+
+    @Test
+    @DisplayName("HTTP GET /api/v1/animes?ids=2,99,1,2 → 200 with the animes in request order and the missing ids")
+    void findAllById_returns200WithItemsAndMissingIds() throws Exception {
+        // Given
+        var expectedJson = objectMapper.writeValueAsString(new BatchGetResponse<>(List.of(animeGetResponse02, animeGetResponse01), List.of(99L)));
+        given(service.findAllById(List.of(2L, 99L, 1L))).willReturn(List.of(anime02, anime01));
+        given(mapper.toGetResponse(List.of(anime02, anime01))).willReturn(List.of(animeGetResponse02, animeGetResponse01));
+
+        // When & Then
+        mockMvc.perform(MockMvcRequestBuilders.get(URI).param("ids", "2,99,1,2"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().json(expectedJson, true));
+
+        // Auditing interactions
+        then(service).should(never()).list(any());
+    }
+
     @Test
     @DisplayName("HTTP GET /api/v1/animes/1 → 200 when anime exists")
     @Order(4)
@@ -156,17 +286,18 @@ class AnimeControllerTest {
     }
 
     @Test
-    @DisplayName("HTTP GET /api/v1/animes/99 → 404 when anime does not exists")
+    @DisplayName("HTTP GET /api/v1/animes/99 → 404 when anime does not exists, even if the ETag matches")
     @Order(5)
     void findById_returns404_whenAnimeDoesNotExists() throws Exception {
         // Given
         var requestedId = 99L;
         var errorMessage = "Anime not found";
         var expectedJson = objectMapper.writeValueAsString(new DefaultErrorMessage(HttpStatus.NOT_FOUND.value(), errorMessage));
+        given(service.validator()).willReturn("a1-12");
         given(service.findByIdOrThrowNotFound(requestedId)).willThrow(new NotFoundException(errorMessage));
 
         // When & Then
-        mockMvc.perform(MockMvcRequestBuilders.get(URI + "/{id}", requestedId))
+        mockMvc.perform(MockMvcRequestBuilders.get(URI + "/{id}", requestedId).header(HttpHeaders.IF_NONE_MATCH, "\"a1-12\""))
                 .andExpect(MockMvcResultMatchers.status().isNotFound())
                 .andExpect(MockMvcResultMatchers.content().json(expectedJson));
     }
@@ -256,6 +387,59 @@ class AnimeControllerTest {
                 .andExpect(MockMvcResultMatchers.content().json(expectedJson));
     }
 
+    @Test
+    @DisplayName("HTTP PUT /api/v1/animes/batch → 200 with one status per element")
+    void updateAll_returns200WithItemStatuses() throws Exception {
+        // Given
+        var requests = List.of(new AnimePutRequest(1L, "Renamed"), new AnimePutRequest(99L, "Unknown"));
+        var entities = List.of(new Anime(1L, "Renamed", null), new Anime(99L, "Unknown", null));
+        given(mapper.fromAnimePutRequestsToEntities(requests)).willReturn(entities);
+        given(service.updateAll(entities)).willReturn(List.of(true, false));
+
+        // When & Then
+        mockMvc.perform(MockMvcRequestBuilders.put(URI + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().json("""
+                        [{"index":0,"status":204,"id":1,"message":null},
+                         {"index":1,"status":404,"id":99,"message":"Anime not found"}]
+                        """, true));
+    }
+
+    @Test
+    @DisplayName("HTTP PUT /api/v1/animes/batch → 400 Bad Request when one element is invalid")
+    void updateAll_returns400_whenOneElementIsInvalid() throws Exception {
+        // Given
+        var requests = List.of(new AnimePutRequest(1L, "Renamed"), new AnimePutRequest(null, ""));
+
+        // When & Then
+        mockMvc.perform(MockMvcRequestBuilders.put(URI + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+
+        // Auditing interactions
+        then(service).should(never()).updateAll(anyList());
+    }
+
+    @Test
+    @DisplayName("HTTP DELETE /api/v1/animes?ids=1,99 → 200 with one status per id")
+    void deleteAll_returns200WithItemStatuses() throws Exception {
+        // Given
+        given(service.deleteAll(List.of(1L, 99L))).willReturn(List.of(true, false));
+
+        // When & Then
+        mockMvc.perform(MockMvcRequestBuilders.delete(URI).param("ids", "1,99"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].status").value(204))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[1].status").value(404))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[1].message").value("Anime not found"));
+
+        // Auditing interactions
+        then(service).should(never()).delete(anyLong());
+    }
+
     @ParameterizedTest
     @MethodSource("create_ReturnsBadRequest_WhenValidationFails_Scenarios")
     @DisplayName("POST /api/v1/animes returns 400 Bad Request when validation fails")
@@ -6,6 +6,7 @@ import com.edson.exception.NotFoundException;
 import com.edson.mapper.ProducerMapper;
 import com.edson.request.ProducerPostRequest;
 import com.edson.request.ProducerPutRequest;
+import com.edson.response.BatchGetResponse;
 import com.edson.response.ProducerGetResponse;
 import com.edson.response.ProducerPostResponse;
 import com.edson.service.ProducerService;
@@ -23,6 +24,7 @@ import org.mockito.BDDMockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.ComponentScan;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -34,6 +36,8 @@ import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 @WebMvcTest(controllers = ProducerController.class)
@@ -73,6 +77,7 @@ class ProducerControllerTest {
         var producers = List.of(p1, p2);
         var responseList = List.of(r1, r2);
         var expectedJson = objectMapper.writeValueAsString(responseList);
+        BDDMockito.given(service.validator()).willReturn("a1-11");
         BDDMockito.given(service.findAll(null)).willReturn(producers);
         BDDMockito.given(mapper.toGetResponse(producers)).willReturn(responseList);
 
@@ -157,6 +162,67 @@ class ProducerControllerTest {
         BDDMockito.then(mapper).should().toGetResponse(producers);
     }
 
+    @Test
+    @DisplayName("GET /api/v1/producers/export returns one JSON document per line")
+    @Order(4)
+    void export_ReturnsNdjson_WhenSuccessful() throws Exception {
+        // Given
+        var expectedBody = objectMapper.writeValueAsString(r1) + "\n" + objectMapper.writeValueAsString(r2) + "\n";
+        BDDMockito.given(service.findAll(null)).willReturn(List.of(p1, p2));
+        BDDMockito.given(mapper.toGetResponse(p1)).willReturn(r1);
+        BDDMockito.given(mapper.toGetResponse(p2)).willReturn(r2);
+
+        // When
+        var asyncResult = mockMvc.perform(MockMvcRequestBuilders.get(PRODUCERS_URI + "/export"))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+        var response = mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(asyncResult));
+
+        // Then
+        response.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(MockMvcResultMatchers.content().string(expectedBody));
+
+        // Auditing interactions
+        BDDMockito.then(service).should().findAll(null);
+        BDDMockito.then(mapper).should(BDDMockito.never()).toGetResponse(ArgumentMatchers.anyList());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/producers?ids=1,99 returns the producers found and the missing ids")
+    void findAllById_ReturnsItemsAndMissingIds() throws Exception {
+        // Given
+        var expectedJson = objectMapper.writeValueAsString(new BatchGetResponse<>(List.of(r1), List.of(99L)));
+        BDDMockito.given(service.findAllById(List.of(1L, 99L))).willReturn(List.of(p1));
+        BDDMockito.given(mapper.toGetResponse(List.of(p1))).willReturn(List.of(r1));
+
+        // When
+        var response = mockMvc.perform(MockMvcRequestBuilders.get(PRODUCERS_URI).param("ids", "1,99"));
+
+        // Then
+        response.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().json(expectedJson, true));
+
+        // Auditing interactions
+        BDDMockito.then(service).should(BDDMockito.never()).findAll(ArgumentMatchers.any());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/producers?ids= returns 400 Bad Request when more than 1000 ids are requested")
+    void findAllById_ReturnsBadRequest_WhenTooManyIdsAreRequested() throws Exception {
+        // Given
+        var ids = LongStream.rangeClosed(1, 1001).mapToObj(String::valueOf).collect(Collectors.joining(","));
+
+        // When
+        var response = mockMvc.perform(MockMvcRequestBuilders.get(PRODUCERS_URI).param("ids", ids));
+
+        // Then
+        response.andExpect(MockMvcResultMatchers.status().isBadRequest());
+
+        // Auditing interactions
+        BDDMockito.then(service).shouldHaveNoInteractions();
+    }
+
     @Test
     @DisplayName("GET /api/v1/producers/1 returns a producer when id exists")
     @Order(4)
@@ -187,6 +253,47 @@ class ProducerControllerTest {
         BDDMockito.then(mapper).should().toGetResponse(producer);
     }
 
+    @Test
+    @DisplayName("GET /api/v1/producers/1 returns 304 Not Modified without mapping when the ETag still matches")
+    void findById_ReturnsNotModified_WhenETagMatches() throws Exception {
+        // Given
+        BDDMockito.given(service.validator()).willReturn("a1-3");
+        BDDMockito.given(service.findByIdOrThrowNotFound(1L)).willReturn(p1);
+
+        // When
+        var response = mockMvc.perform(MockMvcRequestBuilders.get(PRODUCERS_URI + "/{id}", 1L)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"a1-3\""));
+
+        // Then
+        response.andExpect(MockMvcResultMatchers.status().isNotModified())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, "\"a1-3\""))
+                .andExpect(MockMvcResultMatchers.content().string(""));
+
+        // Auditing interactions
+        BDDMockito.then(service).should().findByIdOrThrowNotFound(1L);
+        BDDMockito.then(mapper).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/producers/99 returns 404 Not Found instead of 304 when the ETag matches but the producer does not exist")
+    void findById_Returns404_WhenETagMatchesButProducerNotFound() throws Exception {
+        // Given
+        var nonExistentId = 99L;
+        BDDMockito.given(service.validator()).willReturn("a1-3");
+        BDDMockito.given(service.findByIdOrThrowNotFound(nonExistentId))
+                .willThrow(new NotFoundException("Producer not found"));
+
+        // When
+        var response = mockMvc.perform(MockMvcRequestBuilders.get(PRODUCERS_URI + "/{id}", nonExistentId)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"a1-3\""));
+
+        // Then
+        response.andExpect(MockMvcResultMatchers.status().isNotFound());
+
+        // Auditing interactions
+        BDDMockito.then(mapper).shouldHaveNoInteractions();
+    }
+
     @Test
     @DisplayName("GET /api/v1/producers/99 returns 404 Not Found when producer not exist")
     @Order(5)
@@ -398,6 +505,87 @@ class ProducerControllerTest {
     }
 
 
+    @Test
+    @DisplayName("PUT /api/v1/producers/batch returns 200 with one status per element")
+    void updateAll_ReturnsItemStatuses() throws Exception {
+        // Given
+        var createdAt = LocalDateTime.of(2020, 1, 1, 0, 0);
+        var requests = List.of(new ProducerPutRequest(1L, "Renamed", createdAt), new ProducerPutRequest(99L, "Unknown", createdAt));
+        var entities = List.of(new Producer(1L, "Renamed", createdAt), new Producer(99L, "Unknown", createdAt));
+        BDDMockito.given(mapper.fromProducerPutRequestsToEntities(requests)).willReturn(entities);
+        BDDMockito.given(service.updateAll(entities)).willReturn(List.of(true, false));
+
+        // When
+        var response = mockMvc.perform(MockMvcRequestBuilders.put(PRODUCERS_URI + "/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(requests)));
+
+        // Then
+        response.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().json("""
+                        [{"index":0,"status":204,"id":1,"message":null},
+                         {"index":1,"status":404,"id":99,"message":"Producer not found"}]
+                        """, true));
+
+        // Auditing interactions
+        BDDMockito.then(service).should(BDDMockito.never()).update(ArgumentMatchers.any());
+    }
+
+    @Test
+    @DisplayName("PUT /api/v1/producers/batch returns 400 Bad Request when one element is invalid")
+    void updateAll_ReturnsBadRequest_WhenOneElementIsInvalid() throws Exception {
+        // Given
+        var createdAt = LocalDateTime.of(2020, 1, 1, 0, 0);
+        var requests = List.of(new ProducerPutRequest(1L, "Renamed", createdAt), new ProducerPutRequest(-1L, "", createdAt));
+
+        // When
+        var response = mockMvc.perform(MockMvcRequestBuilders.put(PRODUCERS_URI + "/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(requests)));
+
+        // Then
+        response.andExpect(MockMvcResultMatchers.status().isBadRequest());
+
+        // Auditing interactions
+        BDDMockito.then(service).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("DELETE /api/v1/producers?ids=1,99 returns 200 with one status per id")
+    void deleteAll_ReturnsItemStatuses() throws Exception {
+        // Given
+        BDDMockito.given(service.deleteAll(List.of(1L, 99L))).willReturn(List.of(true, false));
+
+        // When
+        var response = mockMvc.perform(MockMvcRequestBuilders.delete(PRODUCERS_URI).param("ids", "1,99"));
+
+        // Then
+        response.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].status").value(204))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].id").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[1].status").value(404))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[1].message").value("Producer not found"));
+
+        // Auditing interactions
+        BDDMockito.then(service).should(BDDMockito.never()).delete(ArgumentMatchers.anyLong());
+    }
+
+    @Test
+    @DisplayName("DELETE /api/v1/producers?ids= returns 400 Bad Request when more than 1000 ids are given")
+    void deleteAll_ReturnsBadRequest_WhenTooManyIdsAreGiven() throws Exception {
+        // Given
+        var ids = LongStream.rangeClosed(1, 1001).mapToObj(String::valueOf).collect(Collectors.joining(","));
+
+        // When
+        var response = mockMvc.perform(MockMvcRequestBuilders.delete(PRODUCERS_URI).param("ids", ids));
+
+        // Then
+        response.andExpect(MockMvcResultMatchers.status().isBadRequest());
+
+        // Auditing interactions
+        BDDMockito.then(service).shouldHaveNoInteractions();
+    }
+
     @ParameterizedTest
     @MethodSource("create_ReturnsBadRequest_WhenValidationFails_Scenarios")
     @DisplayName("POST /api/v1/produces returns 400 Bad request when validation fails")
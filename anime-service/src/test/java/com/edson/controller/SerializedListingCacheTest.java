@@ -0,0 +1,43 @@
+package com.edson.controller;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class SerializedListingCacheTest {
+    private final SerializedListingCache cache = new SerializedListingCache();
+
+    @Test
+    @DisplayName("get serializes once per validator and rebuilds the payload when the validator changes")
+    void get_SerializesOncePerValidator() throws IOException {
+        var serializations = new AtomicInteger();
+        SerializedListingCache.JsonSerializer serializer = () -> ("[" + serializations.incrementAndGet() + "]").getBytes(StandardCharsets.UTF_8);
+
+        var first = cache.get("a1-1", serializer);
+        var second = cache.get("a1-1", serializer);
+        var third = cache.get("b2-1", serializer);
+
+        Assertions.assertThat(second).isSameAs(first);
+        Assertions.assertThat(third.json()).asString(StandardCharsets.UTF_8).isEqualTo("[2]");
+        Assertions.assertThat(serializations).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("acceptsGzip honours the Accept-Encoding tokens and q=0, an explicit gzip taking precedence over *")
+    void acceptsGzip_HonoursAcceptEncoding() {
+        Assertions.assertThat(SerializedListingCache.acceptsGzip("gzip, deflate, br")).isTrue();
+        Assertions.assertThat(SerializedListingCache.acceptsGzip("br;q=1.0, GZIP;q=0.5")).isTrue();
+        Assertions.assertThat(SerializedListingCache.acceptsGzip("*")).isTrue();
+        Assertions.assertThat(SerializedListingCache.acceptsGzip("gzip;q=0")).isFalse();
+        Assertions.assertThat(SerializedListingCache.acceptsGzip("*;q=0, gzip")).isTrue();
+        Assertions.assertThat(SerializedListingCache.acceptsGzip("*;q=0, gzip;q=0.8")).isTrue();
+        Assertions.assertThat(SerializedListingCache.acceptsGzip("*, gzip;q=0")).isFalse();
+        Assertions.assertThat(SerializedListingCache.acceptsGzip("br, *;q=0")).isFalse();
+        Assertions.assertThat(SerializedListingCache.acceptsGzip("identity")).isFalse();
+        Assertions.assertThat(SerializedListingCache.acceptsGzip(null)).isFalse();
+    }
+}
@@ -0,0 +1,31 @@
+package com.edson.mapper;
+
+import com.edson.domain.Anime;
+import com.edson.response.AnimeGetResponse;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+class AnimeMapperTest {
+    private final AnimeMapper mapper = Mappers.getMapper(AnimeMapper.class);
+    private final List<Anime> animes = List.of(
+            new Anime(1L, "Anime01", LocalDateTime.now()),
+            new Anime(2L, "Anime02", LocalDateTime.now())
+    );
+
+    @Test
+    @DisplayName("toGetResponse with fields maps only the requested fields")
+    void toGetResponse_MapsOnlyRequestedFields() {
+        var actualResult = mapper.toGetResponse(animes, Set.of("name"));
+
+        Assertions.assertThat(actualResult).containsExactly(
+                new AnimeGetResponse(null, "Anime01"),
+                new AnimeGetResponse(null, "Anime02")
+        );
+    }
+}
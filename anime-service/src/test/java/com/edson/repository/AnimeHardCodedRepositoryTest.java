@@ -23,6 +23,7 @@ class AnimeHardCodedRepositoryTest {
     private AnimeData animeData;
 
     private List<Anime> animeList;
+    private InMemoryStore<Anime> animeStore;
 
     @BeforeEach
     void setUp() {
@@ -32,13 +33,15 @@ class AnimeHardCodedRepositoryTest {
                 new Anime(3L, "Anime 03", LocalDateTime.now()),
                 new Anime(4L, "Anime 04", LocalDateTime.now())
         ));
+        animeStore = new InMemoryStore<>(Anime::id, Anime::name);
+        animeStore.saveAll(animeList);
     }
 
     @Test
     @DisplayName("findAll returns a list with all elements when successful")
     @Order(1)
     void findAll_ReturnsAllEntities_WhenSuccessful() {
-        BDDMockito.given(repository.findAll()).willReturn(animeList);
+        BDDMockito.given(animeData.getAnimes()).willReturn(animeStore);
         var sut = repository.findAll();
         Assertions.assertThat(sut).isNotNull().isNotEmpty().hasSize(animeList.size()).hasSameElementsAs(animeList);
     }
@@ -47,7 +50,7 @@ class AnimeHardCodedRepositoryTest {
     @DisplayName("findById returns an optional with entity when id exists")
     @Order(2)
     void findById_ReturnsOptionalEntity_WhenIdExists() {
-        BDDMockito.given(repository.findAll()).willReturn(animeList);
+        BDDMockito.given(animeData.getAnimes()).willReturn(animeStore);
         var animeExpected = animeList.getFirst();
         var sut = repository.findById(animeExpected.id());
         Assertions.assertThat(sut).isNotNull().contains(animeExpected);
@@ -57,7 +60,7 @@ class AnimeHardCodedRepositoryTest {
     @DisplayName("findByName returns an empty list when name is null or empty")
     @Order(3)
     void findByName_ReturnsEmptyList_WhenNameIsNullOrEmpty() {
-        BDDMockito.given(repository.findAll()).willReturn(animeList);
+        BDDMockito.given(animeData.getAnimes()).willReturn(animeStore);
         var sut = repository.findByName(null);
         Assertions.assertThat(sut).isNotNull().isEmpty();
     }
@@ -66,7 +69,7 @@ class AnimeHardCodedRepositoryTest {
     @DisplayName("findByName returns a list of entities when name matches")
     @Order(4)
     void findByName_ReturnsEntityList_WhenNameMatches() {
-        BDDMockito.given(repository.findAll()).willReturn(animeList);
+        BDDMockito.given(animeData.getAnimes()).willReturn(animeStore);
         var expectedAnime = animeList.getFirst();
         var sut = repository.findByName(expectedAnime.name());
         Assertions.assertThat(sut).isNotNull().contains(expectedAnime);
@@ -76,7 +79,7 @@ class AnimeHardCodedRepositoryTest {
     @DisplayName("save persists and returns the entity when successful")
     @Order(5)
     void save_PersistsEntity_WhenSuccessful() {
-        BDDMockito.given(repository.findAll()).willReturn(animeList);
+        BDDMockito.given(animeData.getAnimes()).willReturn(animeStore);
 
         var animeToSave = Anime.builder()
                 .id(99L)
@@ -94,27 +97,43 @@ class AnimeHardCodedRepositoryTest {
     @DisplayName("delete removes the entity when successful")
     @Order(6)
     void delete_RemovesEntity_WhenSuccessful() {
-        BDDMockito.given(repository.findAll()).willReturn(animeList);
+        BDDMockito.given(animeData.getAnimes()).willReturn(animeStore);
         var animeToDelete = animeList.getFirst();
         repository.delete(animeToDelete);
-        Assertions.assertThat(animeList).doesNotContain(animeToDelete);
+        Assertions.assertThat(animeStore.findAll()).doesNotContain(animeToDelete);
     }
 
     @Test
     @DisplayName("update modifies and persists the entity when successful")
     @Order(7)
     void update_UpdatesEntity_WhenSuccessful() {
-        BDDMockito.given(repository.findAll()).willReturn(animeList);
+        BDDMockito.given(animeData.getAnimes()).willReturn(animeStore);
 
-        var animeToUpdate = animeList.getFirst();
-        animeToUpdate = Anime.builder()
-                .id(animeToUpdate.id())
+        var originalAnime = animeList.getFirst();
+        var animeToUpdate = Anime.builder()
+                .id(originalAnime.id())
                 .name("UPDATED").build();
 
-        repository.update(animeToUpdate);
-        Assertions.assertThat(animeList).contains(animeToUpdate);
+        var previousAnime = repository.update(animeToUpdate.id(), oldAnime -> animeToUpdate);
+        Assertions.assertThat(previousAnime).contains(originalAnime);
+        Assertions.assertThat(animeStore.findAll().getFirst()).isEqualTo(animeToUpdate);
         var animeFound = repository.findById(animeToUpdate.id());
         Assertions.assertThat(animeFound).isPresent().contains(animeToUpdate);
         Assertions.assertThat(animeFound.get().name()).isEqualTo(animeToUpdate.name());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("update returns an empty optional and changes nothing when id does not exist")
+    @Order(8)
+    void update_ReturnsEmpty_WhenIdDoesNotExist() {
+        BDDMockito.given(animeData.getAnimes()).willReturn(animeStore);
+
+        var animeToUpdate = Anime.builder()
+                .id(99L)
+                .name("UPDATED").build();
+
+        var previousAnime = repository.update(animeToUpdate.id(), oldAnime -> animeToUpdate);
+        Assertions.assertThat(previousAnime).isEmpty();
+        Assertions.assertThat(animeStore.findAll()).doesNotContain(animeToUpdate).hasSameElementsAs(animeList);
+    }
+}
@@ -0,0 +1,26 @@
+package com.edson.repository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class InMemoryStoreMetricsTest {
+
+    @Test
+    @DisplayName("bindTo registers a size gauge per store that follows writes")
+    void bindTo_RegistersSizeGaugePerStore() {
+        // Given
+        var animeData = new AnimeData();
+        var producerData = new ProducerData();
+        var registry = new SimpleMeterRegistry();
+
+        // When
+        new InMemoryStoreMetrics(animeData, producerData).bindTo(registry);
+        animeData.getAnimes().deleteById(animeData.getAnimes().findAll().getFirst().id());
+
+        // Then
+        Assertions.assertThat(registry.get("inmemory.store.size").tag("store", "animes").gauge().value()).isEqualTo(3);
+        Assertions.assertThat(registry.get("inmemory.store.size").tag("store", "producers").gauge().value()).isEqualTo(4);
+    }
+}
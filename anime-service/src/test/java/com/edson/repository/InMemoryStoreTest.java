@@ -0,0 +1,199 @@
+package com.edson.repository;
+
+import com.edson.domain.Anime;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.*;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.stream.LongStream;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class InMemoryStoreTest {
+    private InMemoryStore<Anime> store;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryStore<>(Anime::id, Anime::name);
+        store.saveAll(List.of(
+                new Anime(1L, "Anime 01", LocalDateTime.now()),
+                new Anime(2L, "Anime 02", LocalDateTime.now()),
+                new Anime(3L, "Anime 03", LocalDateTime.now())
+        ));
+    }
+
+    @Test
+    @DisplayName("findAll returns elements in insertion order")
+    @Order(1)
+    void findAll_ReturnsElementsInInsertionOrder() {
+        var sut = store.findAll();
+        Assertions.assertThat(sut)
+                .extracting(Anime::id)
+                .containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("findAll returns a stable immutable snapshot that is reused until the next write")
+    @Order(2)
+    void findAll_ReturnsStableSnapshot_UntilNextWrite() {
+        var before = store.findAll();
+        Assertions.assertThat(store.findAll()).isSameAs(before);
+
+        store.save(new Anime(4L, "Anime 04", LocalDateTime.now()));
+
+        Assertions.assertThat(before).extracting(Anime::id).containsExactly(1L, 2L, 3L);
+        Assertions.assertThat(store.findAll()).isNotSameAs(before).extracting(Anime::id).containsExactly(1L, 2L, 3L, 4L);
+        Assertions.assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> before.add(new Anime(5L, "Anime 05", LocalDateTime.now())));
+    }
+
+    @Test
+    @DisplayName("findById returns an empty optional when id is null or unknown")
+    @Order(3)
+    void findById_ReturnsEmpty_WhenIdIsNullOrUnknown() {
+        Assertions.assertThat(store.findById(null)).isEmpty();
+        Assertions.assertThat(store.findById(99L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("deleteById removes the element from the index and from findAll")
+    @Order(4)
+    void deleteById_RemovesElement_WhenIdExists() {
+        store.deleteById(2L);
+
+        Assertions.assertThat(store.findById(2L)).isEmpty();
+        Assertions.assertThat(store.findAll()).extracting(Anime::id).containsExactly(1L, 3L);
+        Assertions.assertThat(store.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("findByName matches names ignoring case")
+    @Order(5)
+    void findByName_ReturnsMatches_IgnoringCase() {
+        Assertions.assertThat(store.findByName("ANIME 02")).extracting(Anime::id).containsExactly(2L);
+        Assertions.assertThat(store.findByName(null)).isEmpty();
+        Assertions.assertThat(store.findByName("Anime 99")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("name index follows renames and deletes")
+    @Order(6)
+    void findByName_FollowsRenamesAndDeletes() {
+        store.save(new Anime(1L, "Renamed", LocalDateTime.now()));
+        store.deleteById(3L);
+
+        Assertions.assertThat(store.findByName("Anime 01")).isEmpty();
+        Assertions.assertThat(store.findByName("renamed")).extracting(Anime::id).containsExactly(1L);
+        Assertions.assertThat(store.findByName("Anime 03")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("save keeps every element when called concurrently from many threads")
+    @Order(7)
+    void save_KeepsEveryElement_WhenCalledConcurrently() {
+        var writes = 10_000L;
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            LongStream.rangeClosed(100, 100 + writes - 1)
+                    .forEach(id -> executor.submit(() -> store.save(new Anime(id, "Anime " + id, LocalDateTime.now()))));
+        }
+
+        Assertions.assertThat(store.size()).isEqualTo(writes + 3);
+        Assertions.assertThat(store.findAll()).hasSize((int) writes + 3);
+        Assertions.assertThat(store.findById(5_000L)).isPresent();
+    }
+
+    @Test
+    @DisplayName("version changes on every write and stays put on reads and no-op deletes")
+    @Order(8)
+    void version_ChangesOnlyOnWrites() {
+        var before = store.version();
+
+        store.findAll();
+        store.findById(1L);
+        store.deleteById(99L);
+        Assertions.assertThat(store.version()).isEqualTo(before);
+
+        store.update(1L, anime -> new Anime(anime.id(), "Renamed", anime.createdAt()));
+        var afterUpdate = store.version();
+        store.deleteById(2L);
+
+        Assertions.assertThat(afterUpdate).isGreaterThan(before);
+        Assertions.assertThat(store.version()).isGreaterThan(afterUpdate);
+    }
+
+    @Test
+    @DisplayName("findAllById returns the elements found in the order the ids were given")
+    @Order(9)
+    void findAllById_ReturnsFoundElementsInRequestedOrder() {
+        var sut = store.findAllById(Arrays.asList(3L, 99L, null, 1L));
+
+        Assertions.assertThat(sut).extracting(Anime::id).containsExactly(3L, 1L);
+    }
+
+    @Test
+    @DisplayName("updateAll replaces the elements found in one pass and reports the missing ones")
+    @Order(10)
+    void updateAll_ReplacesFoundElements_AndReportsMissingOnes() {
+        var createdAt = store.findById(2L).orElseThrow().createdAt();
+        var updates = List.of(
+                new Anime(2L, "Renamed 02", null),
+                new Anime(99L, "Unknown", null),
+                new Anime(3L, "Renamed 03", null)
+        );
+
+        var sut = store.updateAll(updates, (previous, requested) -> requested.withCreatedAt(previous.createdAt()));
+
+        Assertions.assertThat(sut).containsExactly(true, false, true);
+        Assertions.assertThat(store.findAll()).extracting(Anime::name).containsExactly("Anime 01", "Renamed 02", "Renamed 03");
+        Assertions.assertThat(store.findById(2L)).get().extracting(Anime::createdAt).isEqualTo(createdAt);
+        Assertions.assertThat(store.findByName("Anime 02")).isEmpty();
+        Assertions.assertThat(store.findById(99L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("updateAll leaves the store untouched when any item of the batch is invalid")
+    @Order(12)
+    void updateAll_LeavesStoreUntouched_WhenAnyItemIsInvalid() {
+        var before = store.findAll();
+        var version = store.version();
+        var updates = List.of(
+                new Anime(1L, "Renamed 01", null),
+                new Anime(null, "No id", null)
+        );
+
+        Assertions.assertThatIllegalArgumentException()
+                .isThrownBy(() -> store.updateAll(updates, (previous, requested) -> requested));
+        Assertions.assertThatIllegalArgumentException()
+                .isThrownBy(() -> store.updateAll(List.of(new Anime(1L, "Renamed 01", null)),
+                        (previous, requested) -> new Anime(42L, requested.name(), null)));
+
+        Assertions.assertThat(store.findAll()).isSameAs(before);
+        Assertions.assertThat(store.version()).isEqualTo(version);
+        Assertions.assertThat(store.findByName("Renamed 01")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("deleteAllById removes the elements found in one pass and reports the missing ones")
+    @Order(11)
+    void deleteAllById_RemovesFoundElements_AndReportsMissingOnes() {
+        var sut = store.deleteAllById(Arrays.asList(1L, 99L, 3L, 1L, null));
+
+        Assertions.assertThat(sut).containsExactly(true, false, true, false, false);
+        Assertions.assertThat(store.findAll()).extracting(Anime::id).containsExactly(2L);
+        Assertions.assertThat(store.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("validator qualifies the version with an epoch, so equal versions of different stores do not match")
+    @Order(13)
+    void validator_DiffersBetweenStores_WhenVersionsAreEqual() {
+        var restarted = new InMemoryStore<Anime>(Anime::id, Anime::name);
+        restarted.saveAll(store.findAll());
+
+        Assertions.assertThat(restarted.version()).isEqualTo(store.version());
+        Assertions.assertThat(store.validator()).endsWith("-" + store.version());
+        Assertions.assertThat(restarted.validator()).isNotEqualTo(store.validator());
+    }
+}
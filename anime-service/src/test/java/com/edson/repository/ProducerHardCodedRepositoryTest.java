@@ -23,6 +23,7 @@ class ProducerHardCodedRepositoryTest {
     @Mock
     private ProducerData producerData;
     private final List<Producer> producerList = new ArrayList<>();
+    private InMemoryStore<Producer> producerStore;
 
     @BeforeEach
     void setUp() {
@@ -32,14 +33,15 @@ class ProducerHardCodedRepositoryTest {
                 new Producer(3L, "Producer 03", LocalDateTime.now()),
                 new Producer(4L, "Producer 04", LocalDateTime.now())
         ));
-
+        producerStore = new InMemoryStore<>(Producer::id, Producer::name);
+        producerStore.saveAll(producerList);
     }
 
     @Test
     @DisplayName("findAll returns a list with all producers")
     @Order(1)
     void findAll_ReturnsAllProducers_WhenSuccess() {
-        BDDMockito.when(producerData.getProducers()).thenReturn(producerList);
+        BDDMockito.when(producerData.getProducers()).thenReturn(producerStore);
         var sut = repository.findAll();
         Assertions.assertThat(sut)
                 .isNotNull()
@@ -51,7 +53,7 @@ class ProducerHardCodedRepositoryTest {
     @DisplayName("findAll returns a producer with given id")
     @Order(2)
     void findById_ReturnsAProducer_WhenSuccess() {
-        BDDMockito.when(producerData.getProducers()).thenReturn(producerList);
+        BDDMockito.when(producerData.getProducers()).thenReturn(producerStore);
 
         var expectedProducer = producerList.getFirst();
 
@@ -65,7 +67,7 @@ class ProducerHardCodedRepositoryTest {
     @DisplayName("findByName returns an empty list when name is null")
     @Order(3)
     void findByName_ReturnsAnEmptyList_WhenNameIsNull() {
-        BDDMockito.when(producerData.getProducers()).thenReturn(producerList);
+        BDDMockito.when(producerData.getProducers()).thenReturn(producerStore);
 
         var sut = repository.findByName(null);
         Assertions.assertThat(sut)
@@ -77,7 +79,7 @@ class ProducerHardCodedRepositoryTest {
     @DisplayName("findByName returns a list with found objects when name match")
     @Order(4)
     void findByName_ReturnsAProducerList_WhenNameMatch() {
-        BDDMockito.when(producerData.getProducers()).thenReturn(producerList);
+        BDDMockito.when(producerData.getProducers()).thenReturn(producerStore);
 
         var expectedProducer = producerList.getFirst();
 
@@ -90,7 +92,7 @@ class ProducerHardCodedRepositoryTest {
     @DisplayName("save creates a producer")
     @Order(5)
     void save_CreatesAProducer_WhenSuccess() {
-        BDDMockito.when(producerData.getProducers()).thenReturn(producerList);
+        BDDMockito.when(producerData.getProducers()).thenReturn(producerStore);
 
         var newProducer = Producer.builder()
                 .id(99L)
@@ -109,21 +111,21 @@ class ProducerHardCodedRepositoryTest {
     @DisplayName("delete removes a producer")
     @Order(6)
     void delete_RemoveAProducer_WhenSuccess() {
-        BDDMockito.when(producerData.getProducers()).thenReturn(producerList);
+        BDDMockito.when(producerData.getProducers()).thenReturn(producerStore);
 
         var producerToDelete = producerList.getFirst();
 
 
         repository.delete(producerToDelete);
 
-        Assertions.assertThat(this.producerList).doesNotContain(producerToDelete);
+        Assertions.assertThat(producerStore.findAll()).doesNotContain(producerToDelete);
     }
 
     @Test
     @DisplayName("update updates a producer")
     @Order(7)
     void update_UpdateAProducer_WhenSuccess() {
-        BDDMockito.when(producerData.getProducers()).thenReturn(producerList);
+        BDDMockito.when(producerData.getProducers()).thenReturn(producerStore);
 
         var producerToUpdate = producerList.getFirst();
         var producerChanged = Producer.builder()
@@ -132,9 +134,10 @@ class ProducerHardCodedRepositoryTest {
                 .createdAt(producerToUpdate.createdAt())
                 .build();
 
-        repository.update(producerChanged);
+        var previousProducer = repository.update(producerChanged.id(), oldProducer -> producerChanged);
 
-        Assertions.assertThat(this.producerList).contains(producerChanged);
+        Assertions.assertThat(previousProducer).contains(producerToUpdate);
+        Assertions.assertThat(producerStore.findAll().getFirst()).isEqualTo(producerChanged);
 
         var producerFound = repository.findById(producerChanged.id());
         Assertions.assertThat(producerFound).isPresent().contains(producerChanged);
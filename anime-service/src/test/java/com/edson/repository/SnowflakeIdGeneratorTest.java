@@ -0,0 +1,79 @@
+package com.edson.repository;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.*;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class SnowflakeIdGeneratorTest {
+
+    @Test
+    @DisplayName("nextId returns unique ids when called concurrently from many threads")
+    @Order(1)
+    void nextId_ReturnsUniqueIds_WhenCalledConcurrently() {
+        var generator = new SnowflakeIdGenerator(1);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        var calls = 100_000;
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            IntStream.range(0, calls).forEach(i -> executor.submit(() -> ids.add(generator.nextId())));
+        }
+
+        Assertions.assertThat(ids).hasSize(calls);
+    }
+
+    @Test
+    @DisplayName("nextId keeps increasing when the clock stands still or moves backwards")
+    @Order(2)
+    void nextId_KeepsIncreasing_WhenClockStandsStillOrMovesBackwards() {
+        var now = new AtomicLong(SnowflakeIdGenerator.EPOCH + 1_000);
+        var generator = new SnowflakeIdGenerator(0, now::get);
+
+        var first = generator.nextId();
+        var second = generator.nextId();
+        now.addAndGet(-500);
+        var third = generator.nextId();
+
+        Assertions.assertThat(second).isGreaterThan(first);
+        Assertions.assertThat(third).isGreaterThan(second);
+    }
+
+    @Test
+    @DisplayName("nextId does not collide between generators with different node ids")
+    @Order(3)
+    void nextId_DoesNotCollide_WhenNodeIdsDiffer() {
+        var now = new AtomicLong(SnowflakeIdGenerator.EPOCH + 1_000);
+        var node01 = new SnowflakeIdGenerator(1, now::get);
+        var node02 = new SnowflakeIdGenerator(2, now::get);
+
+        Assertions.assertThat(node01.nextId()).isNotEqualTo(node02.nextId());
+    }
+
+    @Test
+    @DisplayName("constructor throws IllegalArgumentException when node id is out of range")
+    @Order(4)
+    void constructor_ThrowsIllegalArgumentException_WhenNodeIdIsOutOfRange() {
+        Assertions.assertThatIllegalArgumentException()
+                .isThrownBy(() -> new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID + 1));
+        Assertions.assertThatIllegalArgumentException()
+                .isThrownBy(() -> new SnowflakeIdGenerator(-1));
+    }
+
+    @Test
+    @DisplayName("nextId stays within the 53 bits a JavaScript number holds exactly until the timestamp bits run out")
+    @Order(5)
+    void nextId_StaysWithinJavaScriptSafeIntegers_WhenTimestampIsAtItsLimit() {
+        var lastMillisecond = SnowflakeIdGenerator.EPOCH + (1L << 41) - 1;
+        var generator = new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID, () -> lastMillisecond);
+
+        var ids = IntStream.range(0, 1 << SnowflakeIdGenerator.SEQUENCE_BITS).mapToLong(i -> generator.nextId()).toArray();
+
+        Assertions.assertThat(ids).isSorted().doesNotHaveDuplicates();
+        Assertions.assertThat(ids[ids.length - 1]).isEqualTo(SnowflakeIdGenerator.MAX_ID);
+    }
+}
@@ -17,6 +17,9 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.BinaryOperator;
+import java.util.function.UnaryOperator;
 
 @ExtendWith(MockitoExtension.class)
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
@@ -246,15 +249,16 @@ class AnimeServiceTest {
                 .createdAt(null)
                 .build();
 
-        BDDMockito.given(repository.findById(validId)).willReturn(Optional.of(existentAnime));
+        BDDMockito.given(repository.update(BDDMockito.eq(validId), BDDMockito.any())).willReturn(Optional.of(existentAnime));
 
         // When
         service.update(updateRequest);
 
         // Then
-        var animeCaptor = ArgumentCaptor.forClass(Anime.class);
-        BDDMockito.then(repository).should().update(animeCaptor.capture());
-        var savedAnime = animeCaptor.getValue();
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<UnaryOperator<Anime>> remappingCaptor = ArgumentCaptor.forClass(UnaryOperator.class);
+        BDDMockito.then(repository).should().update(BDDMockito.eq(validId), remappingCaptor.capture());
+        var savedAnime = remappingCaptor.getValue().apply(existentAnime);
 
         Assertions.assertThat(savedAnime)
                 .as("when updating anime with id %d, expect successful field update and creation date preservation", validId)
@@ -263,7 +267,7 @@ class AnimeServiceTest {
                 .hasFieldOrPropertyWithValue("createdAt", originalCreatedAt);
 
         // Auditing interactions
-        BDDMockito.then(repository).should().findById(validId);
+        BDDMockito.then(repository).should(BDDMockito.never()).findById(BDDMockito.anyLong());
     }
 
     @Test
@@ -281,7 +285,7 @@ class AnimeServiceTest {
                 .createdAt(null)
                 .build();
 
-        BDDMockito.given(repository.findById(nonExistentId)).willReturn(Optional.empty());
+        BDDMockito.given(repository.update(BDDMockito.eq(nonExistentId), BDDMockito.any())).willReturn(Optional.empty());
 
         // When & Then
 
@@ -299,7 +303,46 @@ class AnimeServiceTest {
                 });
 
         // Auditing interactions
-        BDDMockito.then(repository).should().findById(nonExistentId);
-        BDDMockito.then(repository).should(BDDMockito.never()).update(BDDMockito.any(Anime.class));
+        BDDMockito.then(repository).should().update(BDDMockito.eq(nonExistentId), BDDMockito.any());
+        BDDMockito.then(repository).should(BDDMockito.never()).findById(BDDMockito.anyLong());
+    }
+
+    @Test
+    @DisplayName("updateAll keeps the creation date of every updated element")
+    @Order(11)
+    void updateAll_KeepsCreationDates() {
+        // Given
+        var previous = animes.getFirst();
+        var requested = new Anime(previous.id(), "Renamed", null);
+        var updates = List.of(requested);
+        BDDMockito.given(repository.updateAll(BDDMockito.eq(updates), BDDMockito.any())).willReturn(List.of(true));
+
+        // When
+        var actualResult = service.updateAll(updates);
+
+        // Then
+        Assertions.assertThat(actualResult).containsExactly(true);
+
+        // Auditing interactions
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<BinaryOperator<Anime>> remappingCaptor = ArgumentCaptor.forClass(BinaryOperator.class);
+        BDDMockito.then(repository).should().updateAll(BDDMockito.eq(updates), remappingCaptor.capture());
+        Assertions.assertThat(remappingCaptor.getValue().apply(previous, requested))
+                .isEqualTo(new Anime(previous.id(), "Renamed", previous.createdAt()));
+    }
+
+    @Test
+    @DisplayName("list with fields throws bad request when a field cannot be projected")
+    @Order(12)
+    void list_ThrowsBadRequest_WhenFieldIsUnknown() {
+        // When & Then
+        Assertions.assertThatExceptionOfType(ResponseStatusException.class)
+                .isThrownBy(() -> service.list(null, Set.of("name", "createdAt")))
+                .withMessageContaining("[createdAt]")
+                .extracting(ResponseStatusException::getStatusCode)
+                .isEqualTo(HttpStatus.BAD_REQUEST);
+
+        // Auditing interactions
+        BDDMockito.then(repository).shouldHaveNoInteractions();
     }
-}
\ No newline at end of file
+}
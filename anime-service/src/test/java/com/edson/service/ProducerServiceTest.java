@@ -17,6 +17,8 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.BinaryOperator;
+import java.util.function.UnaryOperator;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
@@ -201,18 +203,19 @@ class ProducerServiceTest {
                 .createdAt(originalCreatedAt)
                 .build();
 
-        BDDMockito.given(repository.findById(validId))
+        BDDMockito.given(repository.update(BDDMockito.eq(validId), BDDMockito.any()))
                 .willReturn(Optional.of(existingProducer));
 
         // When
         service.update(updateRequest);
 
         // Then
-        ArgumentCaptor<Producer> producerCaptor = ArgumentCaptor.forClass(Producer.class);
-        BDDMockito.then(repository).should().findById(validId);
-        BDDMockito.then(repository).should().update(producerCaptor.capture());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<UnaryOperator<Producer>> remappingCaptor = ArgumentCaptor.forClass(UnaryOperator.class);
+        BDDMockito.then(repository).should().update(BDDMockito.eq(validId), remappingCaptor.capture());
+        BDDMockito.then(repository).should(BDDMockito.never()).findById(BDDMockito.anyLong());
 
-        Producer savedProducer = producerCaptor.getValue();
+        Producer savedProducer = remappingCaptor.getValue().apply(existingProducer);
         Assertions.assertThat(savedProducer.name())
                 .as("The name should be updated to the new value")
                 .isEqualTo(updatedName);
@@ -233,7 +236,7 @@ class ProducerServiceTest {
                 .name("Invalid Producer 99")
                 .build();
 
-        BDDMockito.given(repository.findById(nonExistentId)).willReturn(Optional.empty());
+        BDDMockito.given(repository.update(BDDMockito.eq(nonExistentId), BDDMockito.any())).willReturn(Optional.empty());
 
         // When & Then
         Assertions.assertThatExceptionOfType(ResponseStatusException.class)
@@ -245,7 +248,50 @@ class ProducerServiceTest {
                 });
 
         // Auditing interactions
-        BDDMockito.then(repository).should().findById(nonExistentId);
-        BDDMockito.then(repository).should(BDDMockito.never()).update(BDDMockito.any(Producer.class));
+        BDDMockito.then(repository).should().update(BDDMockito.eq(nonExistentId), BDDMockito.any());
+        BDDMockito.then(repository).should(BDDMockito.never()).findById(BDDMockito.anyLong());
+    }
+
+    @Test
+    @DisplayName("updateAll keeps the creation date of every updated producer")
+    @Order(11)
+    void updateAll_KeepsCreationDates() {
+        // Given
+        var previous = producers.getFirst();
+        var requested = new Producer(previous.id(), "Renamed", LocalDateTime.now());
+        var updates = List.of(requested);
+        BDDMockito.given(repository.updateAll(BDDMockito.eq(updates), BDDMockito.any())).willReturn(List.of(true));
+
+        // When
+        var actualResult = service.updateAll(updates);
+
+        // Then
+        Assertions.assertThat(actualResult).containsExactly(true);
+
+        // Auditing interactions
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<BinaryOperator<Producer>> remappingCaptor = ArgumentCaptor.forClass(BinaryOperator.class);
+        BDDMockito.then(repository).should().updateAll(BDDMockito.eq(updates), remappingCaptor.capture());
+        Assertions.assertThat(remappingCaptor.getValue().apply(previous, requested))
+                .isEqualTo(new Producer(previous.id(), "Renamed", previous.createdAt()));
+    }
+
+    @Test
+    @DisplayName("deleteAll returns whether each id existed and was deleted")
+    @Order(12)
+    void deleteAll_ReturnsPerIdResults() {
+        // Given
+        var ids = List.of(1L, 99L);
+        BDDMockito.given(repository.deleteAllById(ids)).willReturn(List.of(true, false));
+
+        // When
+        var actualResult = service.deleteAll(ids);
+
+        // Then
+        Assertions.assertThat(actualResult).containsExactly(true, false);
+
+        // Auditing interactions
+        BDDMockito.then(repository).should().deleteAllById(ids);
+        BDDMockito.then(repository).shouldHaveNoMoreInteractions();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,85 @@
+package com.edson.benchmark;
+
+import com.edson.domain.Anime;
+import com.edson.repository.AnimeData;
+import com.edson.repository.AnimeHardCodedRepository;
+import com.edson.repository.SnowflakeIdGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AnimeHardCodedRepositoryBenchmark {
+    @Param({"10", "1000", "100000", "1000000"})
+    private int catalogSize;
+
+    private SnowflakeIdGenerator idGenerator;
+    private AnimeHardCodedRepository repository;
+    private Anime[] animes;
+    private long lastCatalogId;
+    private LocalDateTime now;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        idGenerator = new SnowflakeIdGenerator(0);
+        var animeData = new AnimeData();
+        now = LocalDateTime.now();
+
+        var extraAnimes = new ArrayList<Anime>(catalogSize);
+        for (var i = animeData.getAnimes().size(); i < catalogSize; i++) {
+            extraAnimes.add(new Anime(idGenerator.nextId(), "Anime " + i, now));
+        }
+        animeData.getAnimes().saveAll(extraAnimes);
+
+        repository = new AnimeHardCodedRepository(animeData);
+        animes = repository.findAll().toArray(Anime[]::new);
+        lastCatalogId = idGenerator.nextId();
+    }
+
+    @Benchmark
+    public Optional<Anime> findById() {
+        return repository.findById(randomAnime().id());
+    }
+
+    @Benchmark
+    public List<Anime> findByName() {
+        return repository.findByName(randomAnime().name());
+    }
+
+    /**
+     * Drops what {@link #save()} inserted, i.e. every id above {@code lastCatalogId},
+     * so each iteration starts again from a catalog of {@code catalogSize}.
+     */
+    @TearDown(Level.Iteration)
+    public void removeSavedAnimes() {
+        repository.deleteAllById(repository.findAll().stream()
+                .map(Anime::id)
+                .filter(id -> id > lastCatalogId)
+                .toList());
+    }
+
+    @Benchmark
+    public Anime save() {
+        var id = idGenerator.nextId();
+        return repository.save(new Anime(id, "Anime " + id, now));
+    }
+
+    @Benchmark
+    public Optional<Anime> update() {
+        return repository.update(randomAnime().id(), anime -> anime.withCreatedAt(now));
+    }
+
+    private Anime randomAnime() {
+        return animes[ThreadLocalRandom.current().nextInt(animes.length)];
+    }
+}
@@ -0,0 +1,47 @@
+package com.edson.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Runs the selected benchmarks once per thread count and writes one JMH JSON result per run,
+ * so a change can be compared against a stored baseline. The gc profiler is always on, so every
+ * result also reports the allocation rate ({@code gc.alloc.rate.norm}, bytes per operation).
+ * <p>
+ * Usage: {@code java -jar target/benchmarks.jar [jmh options]}. Any regular JMH option works
+ * (e.g. {@code AnimeHardCodedRepository -p catalogSize=1000}). Thread counts come from
+ * {@code -Dbenchmark.threads} (default {@code 1,4,16}), results go to {@code -Dbenchmark.results.dir}
+ * (default {@code target/jmh}) as {@code result-<threads>-threads.json}.
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException, IOException {
+        var commandLineOptions = new CommandLineOptions(args);
+        var resultsDir = Files.createDirectories(Path.of(System.getProperty("benchmark.results.dir", "target/jmh")));
+        var threadCounts = Arrays.stream(System.getProperty("benchmark.threads", "1,4,16").split(","))
+                .map(String::trim)
+                .mapToInt(Integer::parseInt)
+                .toArray();
+
+        for (var threads : threadCounts) {
+            var options = new OptionsBuilder()
+                    .parent(commandLineOptions)
+                    .threads(threads)
+                    .addProfiler(GCProfiler.class)
+                    .resultFormat(ResultFormatType.JSON)
+                    .result(resultsDir.resolve("result-%d-threads.json".formatted(threads)).toString())
+                    .build();
+            new Runner(options).run();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.edson.benchmark;
+
+import com.edson.mapper.AnimeMapperImpl;
+import com.edson.mapper.ProducerMapperImpl;
+import com.edson.mapper.UserMapperImpl;
+import com.edson.response.AnimeGetResponse;
+import com.edson.response.ProducerPostResponse;
+import com.edson.response.UserGetResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of the response records to UTF-8 bytes, configured like the Spring Boot
+ * {@code ObjectMapper} (JSR-310 module, ISO-8601 dates). Covers single records and large lists;
+ * {@code gc.alloc.rate.norm} comes from the gc profiler added by the runner.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonSerializationBenchmark {
+    @Param({"1", "100", "10000"})
+    private int listSize;
+
+    private ObjectWriter animeWriter;
+    private ObjectWriter producerWriter;
+    private ObjectWriter userWriter;
+    private List<AnimeGetResponse> animes;
+    private List<ProducerPostResponse> producers;
+    private List<UserGetResponse> users;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        var objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        animeWriter = objectMapper.writerFor(new TypeReference<List<AnimeGetResponse>>() {});
+        producerWriter = objectMapper.writerFor(new TypeReference<List<ProducerPostResponse>>() {});
+        userWriter = objectMapper.writerFor(new TypeReference<List<UserGetResponse>>() {});
+
+        var producerMapper = new ProducerMapperImpl();
+        animes = new AnimeMapperImpl().toGetResponse(SampleData.animes(listSize));
+        producers = SampleData.producers(listSize).stream().map(producerMapper::toPostResponse).toList();
+        users = new UserMapperImpl().fromUserToUserGetResponse(SampleData.users(listSize));
+    }
+
+    @Benchmark
+    public byte[] animeGetResponses() throws JsonProcessingException {
+        return animeWriter.writeValueAsBytes(animes);
+    }
+
+    @Benchmark
+    public byte[] producerPostResponses() throws JsonProcessingException {
+        return producerWriter.writeValueAsBytes(producers);
+    }
+
+    @Benchmark
+    public byte[] userGetResponses() throws JsonProcessingException {
+        return userWriter.writeValueAsBytes(users);
+    }
+}
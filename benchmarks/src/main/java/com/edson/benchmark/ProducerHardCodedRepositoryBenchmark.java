@@ -0,0 +1,85 @@
+package com.edson.benchmark;
+
+import com.edson.domain.Producer;
+import com.edson.repository.ProducerData;
+import com.edson.repository.ProducerHardCodedRepository;
+import com.edson.repository.SnowflakeIdGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProducerHardCodedRepositoryBenchmark {
+    @Param({"10", "1000", "100000", "1000000"})
+    private int catalogSize;
+
+    private SnowflakeIdGenerator idGenerator;
+    private ProducerHardCodedRepository repository;
+    private Producer[] producers;
+    private long lastCatalogId;
+    private LocalDateTime now;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        idGenerator = new SnowflakeIdGenerator(0);
+        var producerData = new ProducerData();
+        now = LocalDateTime.now();
+
+        var extraProducers = new ArrayList<Producer>(catalogSize);
+        for (var i = producerData.getProducers().size(); i < catalogSize; i++) {
+            extraProducers.add(new Producer(idGenerator.nextId(), "Producer " + i, now));
+        }
+        producerData.getProducers().saveAll(extraProducers);
+
+        repository = new ProducerHardCodedRepository(producerData);
+        producers = repository.findAll().toArray(Producer[]::new);
+        lastCatalogId = idGenerator.nextId();
+    }
+
+    @Benchmark
+    public Optional<Producer> findById() {
+        return repository.findById(randomProducer().id());
+    }
+
+    @Benchmark
+    public List<Producer> findByName() {
+        return repository.findByName(randomProducer().name());
+    }
+
+    /**
+     * Drops what {@link #save()} inserted, i.e. every id above {@code lastCatalogId},
+     * so each iteration starts again from a catalog of {@code catalogSize}.
+     */
+    @TearDown(Level.Iteration)
+    public void removeSavedProducers() {
+        repository.deleteAllById(repository.findAll().stream()
+                .map(Producer::id)
+                .filter(id -> id > lastCatalogId)
+                .toList());
+    }
+
+    @Benchmark
+    public Producer save() {
+        var id = idGenerator.nextId();
+        return repository.save(new Producer(id, "Producer " + id, now));
+    }
+
+    @Benchmark
+    public Optional<Producer> update() {
+        return repository.update(randomProducer().id(), producer -> producer.withCreatedAt(now));
+    }
+
+    private Producer randomProducer() {
+        return producers[ThreadLocalRandom.current().nextInt(producers.length)];
+    }
+}
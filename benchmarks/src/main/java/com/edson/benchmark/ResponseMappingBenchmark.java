@@ -0,0 +1,87 @@
+package com.edson.benchmark;
+
+import com.edson.domain.Anime;
+import com.edson.domain.Producer;
+import com.edson.domain.User;
+import com.edson.mapper.AnimeMapper;
+import com.edson.mapper.AnimeMapperImpl;
+import com.edson.mapper.ProducerMapper;
+import com.edson.mapper.ProducerMapperImpl;
+import com.edson.mapper.UserMapper;
+import com.edson.mapper.UserMapperImpl;
+import com.edson.response.AnimeGetResponse;
+import com.edson.response.ProducerGetResponse;
+import com.edson.response.ProducerPostResponse;
+import com.edson.response.UserGetResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning domain objects into response records. The runner adds the gc profiler,
+ * so every score comes with {@code gc.alloc.rate.norm} (bytes allocated per operation).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseMappingBenchmark {
+    private final AnimeMapper animeMapper = new AnimeMapperImpl();
+    private final ProducerMapper producerMapper = new ProducerMapperImpl();
+    private final UserMapper userMapper = new UserMapperImpl();
+
+    // Non-final fields keep the JIT from treating the inputs as constants
+    private Anime anime = SampleData.ANIME;
+    private Producer producer = SampleData.PRODUCER;
+    private User user = SampleData.USER;
+
+    @State(Scope.Benchmark)
+    public static class Catalog {
+        @Param({"100", "10000"})
+        int listSize;
+
+        List<Anime> animes;
+        List<Producer> producers;
+        List<User> users;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            animes = SampleData.animes(listSize);
+            producers = SampleData.producers(listSize);
+            users = SampleData.users(listSize);
+        }
+    }
+
+    @Benchmark
+    public AnimeGetResponse animeToGetResponse() {
+        return animeMapper.toGetResponse(anime);
+    }
+
+    @Benchmark
+    public List<AnimeGetResponse> animeListToGetResponse(Catalog catalog) {
+        return animeMapper.toGetResponse(catalog.animes);
+    }
+
+    @Benchmark
+    public ProducerPostResponse producerToPostResponse() {
+        return producerMapper.toPostResponse(producer);
+    }
+
+    @Benchmark
+    public List<ProducerGetResponse> producerListToGetResponse(Catalog catalog) {
+        return producerMapper.toGetResponse(catalog.producers);
+    }
+
+    @Benchmark
+    public UserGetResponse userToGetResponse() {
+        return userMapper.fromUserToUserGetResponse(user);
+    }
+
+    @Benchmark
+    public List<UserGetResponse> userListToGetResponse(Catalog catalog) {
+        return userMapper.fromUserToUserGetResponse(catalog.users);
+    }
+}
@@ -0,0 +1,40 @@
+package com.edson.benchmark;
+
+import com.edson.domain.Anime;
+import com.edson.domain.Producer;
+import com.edson.domain.User;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+final class SampleData {
+    static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 5, 17, 10, 15, 30, 123_456_789);
+    static final Anime ANIME = new Anime(1L, "Anime 01", CREATED_AT);
+    static final Producer PRODUCER = new Producer(1L, "Producer 01", CREATED_AT);
+    static final User USER = user(1L);
+
+    private SampleData() {
+    }
+
+    static List<Anime> animes(int size) {
+        return LongStream.rangeClosed(1, size).mapToObj(id -> new Anime(id, "Anime " + id, CREATED_AT)).toList();
+    }
+
+    static List<Producer> producers(int size) {
+        return LongStream.rangeClosed(1, size).mapToObj(id -> new Producer(id, "Producer " + id, CREATED_AT)).toList();
+    }
+
+    static List<User> users(int size) {
+        return LongStream.rangeClosed(1, size).mapToObj(SampleData::user).toList();
+    }
+
+    private static User user(long id) {
+        return User.builder()
+                .id(id)
+                .firstName("firstName" + id)
+                .lastName("lastName" + id)
+                .email("firstName%d@lastName%d.com".formatted(id, id))
+                .build();
+    }
+}
@@ -0,0 +1,102 @@
+package com.edson.benchmark;
+
+import com.edson.domain.User;
+import com.edson.repository.UserData;
+import com.edson.repository.UserHardCodedRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserHardCodedRepositoryBenchmark {
+
+    @State(Scope.Benchmark)
+    public abstract static class Catalog {
+        @Param({"10", "1000", "100000", "1000000"})
+        int catalogSize;
+
+        UserData userData;
+        UserHardCodedRepository repository;
+        User[] users;
+        long lastCatalogId;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            userData = new UserData();
+            for (var i = userData.getUsers().size(); i < catalogSize; i++) {
+                userData.getUsers().add(User.builder()
+                        .id(userData.nextId())
+                        .firstName("firstName" + i)
+                        .lastName("lastName" + i)
+                        .email("firstName%d@lastName%d.com".formatted(i, i))
+                        .build());
+            }
+            repository = new UserHardCodedRepository(userData);
+            users = repository.findAll().toArray(User[]::new);
+            lastCatalogId = userData.nextId();
+        }
+
+        User randomUser() {
+            return users[ThreadLocalRandom.current().nextInt(users.length)];
+        }
+    }
+
+    /**
+     * Shared by every benchmark thread, only used by the read benchmarks.
+     */
+    @State(Scope.Benchmark)
+    public static class SharedCatalog extends Catalog {
+    }
+
+    /**
+     * {@link UserData} is backed by a plain {@code ArrayList}, so writes get a catalog per thread.
+     * Mind the heap when combining the largest catalog size with many threads.
+     */
+    @State(Scope.Thread)
+    public static class ThreadCatalog extends Catalog {
+
+        /**
+         * Drops what {@link #create(ThreadCatalog)} inserted, i.e. every id above {@code lastCatalogId},
+         * so each iteration starts again from a catalog of {@code catalogSize}.
+         */
+        @TearDown(Level.Iteration)
+        public void removeCreatedUsers() {
+            userData.getUsers().removeIf(user -> user.getId() > lastCatalogId);
+        }
+    }
+
+    @Benchmark
+    public Optional<User> findById(SharedCatalog catalog) {
+        return catalog.repository.findById(catalog.randomUser().getId());
+    }
+
+    @Benchmark
+    public List<User> findAllByName(SharedCatalog catalog) {
+        return catalog.repository.findAllByName(catalog.randomUser().getFirstName());
+    }
+
+    @Benchmark
+    public User create(ThreadCatalog catalog) {
+        var id = catalog.userData.nextId();
+        return catalog.repository.create(User.builder()
+                .id(id)
+                .firstName("firstName" + id)
+                .lastName("lastName" + id)
+                .email("firstName%d@lastName%d.com".formatted(id, id))
+                .build());
+    }
+
+    @Benchmark
+    public User update(ThreadCatalog catalog) {
+        var user = catalog.randomUser();
+        catalog.repository.update(user);
+        return user;
+    }
+}
@@ -1,18 +1,46 @@
 package com.edson.exception;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import java.sql.SQLIntegrityConstraintViolationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 @RestControllerAdvice
 public class GlobalErrorHandlerAdvice {
+    // not-found reasons are a handful of constants, the cap only guards against callers building them dynamically
+    private static final int MAX_CACHED_NOT_FOUND_MESSAGES = 256;
+
+    private final ConcurrentMap<String, DefaultErrorMessage> notFoundMessages = new ConcurrentHashMap<>();
+
     @ExceptionHandler(NotFoundException.class)
     public ResponseEntity<DefaultErrorMessage> handleNotFoundException(NotFoundException e) {
-        var error = new DefaultErrorMessage(HttpStatus.NOT_FOUND.value(), e.getReason());
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(notFoundMessage(e.getReason()));
+    }
+
+    private DefaultErrorMessage notFoundMessage(String reason) {
+        var error = reason == null ? null : notFoundMessages.get(reason);
+        if (error != null) {
+            return error;
+        }
+        error = new DefaultErrorMessage(HttpStatus.NOT_FOUND.value(), reason);
+        if (reason != null && notFoundMessages.size() < MAX_CACHED_NOT_FOUND_MESSAGES) {
+            notFoundMessages.putIfAbsent(reason, error);
+        }
+        return error;
+    }
+
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<DefaultErrorMessage> handleServiceUnavailableException(ServiceUnavailableException e) {
+        var error = new DefaultErrorMessage(HttpStatus.SERVICE_UNAVAILABLE.value(), e.getReason());
+        var retryAfterSeconds = Math.max(1, e.getRetryAfter().toSeconds());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(error);
     }
 
     @ExceptionHandler(SQLIntegrityConstraintViolationException.class)
@@ -3,8 +3,17 @@ package com.edson.exception;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 
+/**
+ * Thrown for missing resources. Misses are an expected outcome of client lookups rather than a bug, so the
+ * exception skips filling in its stack trace, which is by far the most expensive part of throwing it.
+ */
 public class NotFoundException extends ResponseStatusException {
     public NotFoundException(String message) {
         super(HttpStatus.NOT_FOUND, message);
     }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
 }
@@ -0,0 +1,91 @@
+package com.edson.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Lets at most {@code eventsPerSecond} events through per log statement of the loggers under {@code loggerPrefix}
+ * and drops the rest before a logging event is even created.
+ * <p>
+ * Statements are told apart by their message pattern, so every endpoint logging its own line gets its own budget.
+ * Events below WARN are the only ones limited, and the number of tracked patterns is capped so a logger building
+ * its patterns dynamically cannot grow the map without bound.
+ */
+public class RateLimitingTurboFilter extends TurboFilter {
+    private static final int MAX_TRACKED_PATTERNS = 1024;
+
+    private final ConcurrentMap<String, AtomicLong> windows = new ConcurrentHashMap<>();
+    private final LongSupplier nanoClock;
+    private String loggerPrefix = "";
+    private int eventsPerSecond = 100;
+
+    public RateLimitingTurboFilter() {
+        this(System::nanoTime);
+    }
+
+    RateLimitingTurboFilter(LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // turbo filters run ahead of the level check, so bail out early for disabled or unrelated statements
+        if (!isStarted() || format == null || level.isGreaterOrEqual(Level.WARN)) {
+            return FilterReply.NEUTRAL;
+        }
+        if (level.levelInt < logger.getEffectiveLevel().levelInt || !logger.getName().startsWith(loggerPrefix)) {
+            return FilterReply.NEUTRAL;
+        }
+
+        var window = windows.get(format);
+        if (window == null) {
+            if (windows.size() >= MAX_TRACKED_PATTERNS) {
+                return FilterReply.NEUTRAL;
+            }
+            window = windows.computeIfAbsent(format, key -> new AtomicLong());
+        }
+        return tryAcquire(window) ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    // packs the current second in the high bits and the events already logged in it in the low 20 bits
+    private boolean tryAcquire(AtomicLong window) {
+        var second = TimeUnit.NANOSECONDS.toSeconds(nanoClock.getAsLong());
+        while (true) {
+            var current = window.get();
+            var count = current >>> 44 == (second & 0xFFFFF) ? current & 0xFFFFF : 0;
+            if (count >= eventsPerSecond) {
+                return false;
+            }
+            var next = (second & 0xFFFFF) << 44 | (count + 1);
+            if (window.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        if (eventsPerSecond < 1 || eventsPerSecond > 0xFFFFF) {
+            addError("eventsPerSecond must be between 1 and " + 0xFFFFF + ", got " + eventsPerSecond);
+            return;
+        }
+        super.start();
+    }
+
+    public void setLoggerPrefix(String loggerPrefix) {
+        this.loggerPrefix = loggerPrefix;
+    }
+
+    public void setEventsPerSecond(int eventsPerSecond) {
+        this.eventsPerSecond = eventsPerSecond;
+    }
+}
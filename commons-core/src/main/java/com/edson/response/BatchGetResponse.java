@@ -0,0 +1,17 @@
+package com.edson.response;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Result of a fetch-by-ids: the items found, in the order their ids were requested, and the ids that matched nothing.
+ */
+public record BatchGetResponse<T>(List<T> items, List<Long> missingIds) {
+    public static <T> BatchGetResponse<T> of(List<Long> requestedIds, List<T> items, Function<T, Long> idExtractor) {
+        var foundIds = new HashSet<Long>(items.size() * 2);
+        items.forEach(item -> foundIds.add(idExtractor.apply(item)));
+        var missingIds = requestedIds.stream().filter(id -> !foundIds.contains(id)).toList();
+        return new BatchGetResponse<>(items, missingIds);
+    }
+}
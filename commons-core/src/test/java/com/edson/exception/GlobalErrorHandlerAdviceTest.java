@@ -0,0 +1,31 @@
+package com.edson.exception;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+class GlobalErrorHandlerAdviceTest {
+    private final GlobalErrorHandlerAdvice advice = new GlobalErrorHandlerAdvice();
+
+    @Test
+    @DisplayName("NotFoundException does not capture a stack trace")
+    void notFoundException_HasNoStackTrace() {
+        var exception = new NotFoundException("Anime not found");
+
+        Assertions.assertThat(exception.getStackTrace()).isEmpty();
+        Assertions.assertThat(exception.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("handleNotFoundException reuses the same body for repeated misses with the same message")
+    void handleNotFoundException_ReusesBody_WhenMessageRepeats() {
+        var first = advice.handleNotFoundException(new NotFoundException("Anime not found"));
+        var second = advice.handleNotFoundException(new NotFoundException("Anime not found"));
+        var other = advice.handleNotFoundException(new NotFoundException("Producer not found"));
+
+        Assertions.assertThat(second.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        Assertions.assertThat(second.getBody()).isSameAs(first.getBody());
+        Assertions.assertThat(other.getBody()).isEqualTo(new DefaultErrorMessage(404, "Producer not found"));
+    }
+}
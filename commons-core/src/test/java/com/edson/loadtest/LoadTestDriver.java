@@ -0,0 +1,169 @@
+package com.edson.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model HTTP load generator: requests leave at a fixed rate whether or not earlier ones have
+ * completed, the scenario of each request is drawn from the weighted mix with a fixed seed, and the
+ * latency of every request is recorded into an HdrHistogram per scenario.
+ * <p>
+ * {@link #run} writes {@code <name>.json} plus one {@code <name>-<scenario>.hgrm} percentile
+ * distribution per scenario to {@link LoadTestSettings#outputDir()}.
+ */
+public class LoadTestDriver implements AutoCloseable {
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+    private static final long SEED = 42;
+
+    private final List<LoadTestScenario> scenarios;
+    private final int totalWeight;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final HttpClient client;
+
+    public LoadTestDriver(List<LoadTestScenario> scenarios) {
+        if (scenarios.isEmpty()) {
+            throw new IllegalArgumentException("At least one scenario is required");
+        }
+        this.scenarios = List.copyOf(scenarios);
+        this.totalWeight = scenarios.stream().mapToInt(LoadTestScenario::weight).sum();
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(executor)
+                .build();
+    }
+
+    public LoadTestReport run(String name, LoadTestSettings settings) throws IOException {
+        var random = new SplittableRandom(SEED);
+        var sequence = new AtomicLong();
+
+        drive(settings, settings.warmup(), random, sequence, null, null);
+
+        var histograms = scenarios.stream().map(s -> newHistogram()).toList();
+        var errors = scenarios.stream().map(s -> new AtomicLong()).toList();
+        var started = System.nanoTime();
+        drive(settings, settings.duration(), random, sequence, histograms, errors);
+        var measuredNanos = System.nanoTime() - started;
+
+        var report = report(name, settings, measuredNanos, histograms, errors);
+        write(report, histograms, settings.outputDir());
+        return report;
+    }
+
+    @Override
+    public void close() {
+        client.close();
+        executor.close();
+    }
+
+    private void drive(LoadTestSettings settings, Duration duration, SplittableRandom random, AtomicLong sequence,
+                       List<Histogram> histograms, List<AtomicLong> errors) {
+        var intervalNanos = TimeUnit.SECONDS.toNanos(1) / settings.requestsPerSecond();
+        var requests = duration.toNanos() / intervalNanos;
+        var inFlight = new ArrayList<CompletableFuture<?>>((int) Math.min(requests, Integer.MAX_VALUE));
+        var start = System.nanoTime();
+
+        for (var i = 0L; i < requests; i++) {
+            var intendedStart = start + i * intervalNanos;
+            var wait = intendedStart - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            var scenarioIndex = pickScenario(random);
+            var request = scenarios.get(scenarioIndex).requestFactory()
+                    .apply(sequence.getAndIncrement())
+                    .timeout(settings.requestTimeout())
+                    .build();
+            inFlight.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, failure) -> {
+                        if (histograms == null) {
+                            return;
+                        }
+                        var latencyMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedStart);
+                        histograms.get(scenarioIndex).recordValue(Math.min(latencyMicros, HIGHEST_TRACKABLE_MICROS));
+                        if (failure != null || response.statusCode() >= 400) {
+                            errors.get(scenarioIndex).incrementAndGet();
+                        }
+                    }));
+        }
+
+        CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new))
+                .exceptionally(failure -> null)
+                .join();
+    }
+
+    private int pickScenario(SplittableRandom random) {
+        var roll = random.nextInt(totalWeight);
+        for (var i = 0; i < scenarios.size(); i++) {
+            roll -= scenarios.get(i).weight();
+            if (roll < 0) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("Weights changed while running");
+    }
+
+    private LoadTestReport report(String name, LoadTestSettings settings, long measuredNanos,
+                                  List<Histogram> histograms, List<AtomicLong> errors) {
+        var total = newHistogram();
+        var totalErrors = 0L;
+        var results = new ArrayList<LoadTestReport.ScenarioResult>(scenarios.size());
+        for (var i = 0; i < scenarios.size(); i++) {
+            total.add(histograms.get(i));
+            totalErrors += errors.get(i).get();
+            results.add(result(scenarios.get(i).name(), histograms.get(i), errors.get(i).get()));
+        }
+        var seconds = measuredNanos / (double) TimeUnit.SECONDS.toNanos(1);
+        return new LoadTestReport(name, settings.requestsPerSecond(), total.getTotalCount() / seconds,
+                TimeUnit.NANOSECONDS.toMillis(measuredNanos), result("total", total, totalErrors), results);
+    }
+
+    private static LoadTestReport.ScenarioResult result(String name, Histogram histogram, long errors) {
+        return new LoadTestReport.ScenarioResult(name, histogram.getTotalCount(), errors, histogram.getMean(),
+                histogram.getValueAtPercentile(50), histogram.getValueAtPercentile(99),
+                histogram.getValueAtPercentile(99.9), histogram.getMaxValue());
+    }
+
+    private void write(LoadTestReport report, List<Histogram> histograms, Path outputDir) throws IOException {
+        Files.createDirectories(outputDir);
+        new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(outputDir.resolve(report.name() + ".json").toFile(), report);
+
+        for (var i = 0; i < scenarios.size(); i++) {
+            var file = outputDir.resolve("%s-%s.hgrm".formatted(report.name(), fileName(scenarios.get(i).name())));
+            try (var out = new PrintStream(Files.newOutputStream(file))) {
+                // microseconds in the histogram, milliseconds in the file
+                histograms.get(i).outputPercentileDistribution(out, 1000.0);
+            }
+        }
+    }
+
+    private static Histogram newHistogram() {
+        return new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+    }
+
+    private static String fileName(String scenarioName) {
+        return scenarioName.replaceAll("[^A-Za-z0-9]+", "-").replaceAll("(^-|-$)", "").toLowerCase();
+    }
+}
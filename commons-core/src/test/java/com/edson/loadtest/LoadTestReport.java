@@ -0,0 +1,15 @@
+package com.edson.loadtest;
+
+import java.util.List;
+
+/**
+ * Machine-readable outcome of a load-test run. Latencies are in microseconds and are measured from
+ * the time each request was scheduled to be sent, so a stalled service cannot hide its queueing delay.
+ */
+public record LoadTestReport(String name, int targetRequestsPerSecond, double achievedRequestsPerSecond,
+                             long measuredMillis, ScenarioResult total, List<ScenarioResult> scenarios) {
+
+    public record ScenarioResult(String name, long requests, long errors, double meanMicros, long p50Micros,
+                                 long p99Micros, long p999Micros, long maxMicros) {
+    }
+}
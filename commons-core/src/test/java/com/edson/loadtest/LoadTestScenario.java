@@ -0,0 +1,20 @@
+package com.edson.loadtest;
+
+import java.net.http.HttpRequest;
+import java.util.function.LongFunction;
+
+/**
+ * One kind of request in a mixed workload.
+ *
+ * @param name           label used in the report, e.g. {@code GET /api/v1/animes}
+ * @param weight         relative share of the requests sent by the driver
+ * @param requestFactory builds the request for the given sequence number, which is unique per run
+ *                       and can be used to derive distinct payloads for writes
+ */
+public record LoadTestScenario(String name, int weight, LongFunction<HttpRequest.Builder> requestFactory) {
+    public LoadTestScenario {
+        if (weight < 1) {
+            throw new IllegalArgumentException("Scenario weight must be positive");
+        }
+    }
+}
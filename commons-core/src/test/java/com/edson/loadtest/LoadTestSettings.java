@@ -0,0 +1,28 @@
+package com.edson.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * @param requestsPerSecond fixed arrival rate, independent of how fast the service answers
+ * @param warmup            time spent at the target rate before latencies are recorded
+ * @param duration          measured time
+ * @param requestTimeout    requests slower than this count as errors
+ * @param outputDir         directory that receives the JSON report and the histogram files
+ */
+public record LoadTestSettings(int requestsPerSecond, Duration warmup, Duration duration, Duration requestTimeout,
+                               Path outputDir) {
+
+    /**
+     * Reads {@code loadtest.rate}, {@code loadtest.warmup}, {@code loadtest.duration},
+     * {@code loadtest.timeout} (ISO-8601 durations, e.g. {@code PT30S}) and {@code loadtest.output-dir}.
+     */
+    public static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Integer.getInteger("loadtest.rate", 50),
+                Duration.parse(System.getProperty("loadtest.warmup", "PT5S")),
+                Duration.parse(System.getProperty("loadtest.duration", "PT30S")),
+                Duration.parse(System.getProperty("loadtest.timeout", "PT10S")),
+                Path.of(System.getProperty("loadtest.output-dir", "target/load-test")));
+    }
+}
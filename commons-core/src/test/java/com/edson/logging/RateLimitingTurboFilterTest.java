@@ -0,0 +1,68 @@
+package com.edson.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+class RateLimitingTurboFilterTest {
+    private final LoggerContext context = new LoggerContext();
+    private final AtomicLong now = new AtomicLong(TimeUnit.SECONDS.toNanos(10));
+    private RateLimitingTurboFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        context.getLogger("com.edson").setLevel(Level.INFO);
+        filter = new RateLimitingTurboFilter(now::get);
+        filter.setContext(context);
+        filter.setLoggerPrefix("com.edson.controller");
+        filter.setEventsPerSecond(2);
+        filter.start();
+    }
+
+    @Test
+    @DisplayName("decide denies a log statement once it used up its budget for the current second")
+    void decide_DeniesStatement_WhenBudgetIsUsedUp() {
+        var logger = context.getLogger("com.edson.controller.AnimeController");
+
+        Assertions.assertThat(decide(logger, Level.INFO, "Find anime by id {}")).isEqualTo(FilterReply.NEUTRAL);
+        Assertions.assertThat(decide(logger, Level.INFO, "Find anime by id {}")).isEqualTo(FilterReply.NEUTRAL);
+        Assertions.assertThat(decide(logger, Level.INFO, "Find anime by id {}")).isEqualTo(FilterReply.DENY);
+        Assertions.assertThat(decide(logger, Level.INFO, "Delete anime by id {}")).isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    @Test
+    @DisplayName("decide lets a log statement through again once the next second starts")
+    void decide_ResetsBudget_WhenNextSecondStarts() {
+        var logger = context.getLogger("com.edson.controller.AnimeController");
+        decide(logger, Level.INFO, "Find anime by id {}");
+        decide(logger, Level.INFO, "Find anime by id {}");
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+
+        Assertions.assertThat(decide(logger, Level.INFO, "Find anime by id {}")).isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    @Test
+    @DisplayName("decide never limits warnings, disabled levels or loggers outside the prefix")
+    void decide_ReturnsNeutral_WhenStatementIsNotLimited() {
+        var controllerLogger = context.getLogger("com.edson.controller.AnimeController");
+        var serviceLogger = context.getLogger("com.edson.service.AnimeService");
+
+        for (int i = 0; i < 5; i++) {
+            Assertions.assertThat(decide(controllerLogger, Level.WARN, "warn {}")).isEqualTo(FilterReply.NEUTRAL);
+            Assertions.assertThat(decide(controllerLogger, Level.DEBUG, "debug {}")).isEqualTo(FilterReply.NEUTRAL);
+            Assertions.assertThat(decide(serviceLogger, Level.INFO, "info {}")).isEqualTo(FilterReply.NEUTRAL);
+        }
+    }
+
+    private FilterReply decide(ch.qos.logback.classic.Logger logger, Level level, String format) {
+        return filter.decide(null, logger, level, format, null, null);
+    }
+}
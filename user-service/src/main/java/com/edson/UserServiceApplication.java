@@ -3,9 +3,13 @@ package com.edson;
 import lombok.Generated;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.core.Ordered;
 
 @Generated
 @SpringBootApplication
+// Cache advice wraps the transaction, so evictions happen only after the write has committed
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
 public class UserServiceApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,65 @@
+package com.edson.concurrency;
+
+import com.edson.exception.ServiceUnavailableException;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounds how many virtual threads may be inside {@code UserService} at once.
+ * <p>
+ * Without it every request thread ends up parked on the JDBC pool and bursts turn into long queues
+ * and timeouts. Callers that cannot get a permit within the configured timeout are rejected with
+ * {@link ServiceUnavailableException}, which the error advice maps to 503 with {@code Retry-After}.
+ * <p>
+ * The advice runs inside the cache advice, so cache hits never take a permit, and outside the
+ * transaction advice, so a rejected call never borrows a connection.
+ * <p>
+ * {@code exportAll} is left out: it streams the whole table to a slow client and would hold a permit,
+ * and with it a share of the pool meant for short calls, for as long as the download takes.
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@EnableConfigurationProperties(DbConcurrencyLimiterProperties.class)
+public class DbConcurrencyLimiter {
+    static final String LIMITED_CALLS = "within(com.edson.service.UserService) && execution(public * *(..))"
+            + " && !execution(* com.edson.service.UserService.exportAll(..))";
+
+    private final DbConcurrencyLimiterProperties properties;
+    private final Semaphore permits;
+
+    public DbConcurrencyLimiter(DbConcurrencyLimiterProperties properties) {
+        if (properties.maxConcurrentCalls() < 1) {
+            throw new IllegalArgumentException("maxConcurrentCalls must be positive");
+        }
+        this.properties = properties;
+        this.permits = new Semaphore(properties.maxConcurrentCalls());
+    }
+
+    @Around(LIMITED_CALLS)
+    public Object limit(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!permits.tryAcquire(properties.acquireTimeout().toNanos(), TimeUnit.NANOSECONDS)) {
+            log.debug("Rejecting '{}', {} concurrent database calls in flight", joinPoint.getSignature().toShortString(), properties.maxConcurrentCalls());
+            throw new ServiceUnavailableException("Too many concurrent requests, try again later", properties.retryAfter());
+        }
+        try {
+            return joinPoint.proceed();
+        } finally {
+            permits.release();
+        }
+    }
+
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+}
@@ -0,0 +1,18 @@
+package com.edson.concurrency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * @param maxConcurrentCalls calls allowed to run against the database at the same time, keep it close to the pool size
+ * @param acquireTimeout     how long a caller may wait for a free slot before being rejected
+ * @param retryAfter         value advertised in the {@code Retry-After} header of rejected requests
+ */
+@ConfigurationProperties(prefix = "user-service.db-limiter")
+public record DbConcurrencyLimiterProperties(
+        @DefaultValue("40") int maxConcurrentCalls,
+        @DefaultValue("50ms") Duration acquireTimeout,
+        @DefaultValue("1s") Duration retryAfter) {
+}
@@ -4,37 +4,117 @@ import com.edson.domain.User;
 import com.edson.mapper.UserMapper;
 import com.edson.request.UserPostRequest;
 import com.edson.request.UserPutRequest;
+import com.edson.response.BatchGetResponse;
+import com.edson.response.UserBatchItemResponse;
 import com.edson.response.UserGetResponse;
 import com.edson.response.UserPostResponse;
 import com.edson.service.UserService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/v1/users")
 @RequiredArgsConstructor
 public class UserController {
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final int DEFAULT_PAGE_SIZE = 100;
 
     private final UserService service;
     private final UserMapper mapper;
+    private final ObjectMapper objectMapper;
 
+    /**
+     * Lists users, optionally filtered by {@code firstName}. Without {@code after} and {@code limit} every match is
+     * returned at once, as before paging existed. Passing either one opts into id-cursor paging: at most
+     * {@code limit} users (100 when omitted) with an id above {@code after}, and the cursor of the next page in
+     * the {@value #NEXT_CURSOR_HEADER} header until the last page.
+     */
     @GetMapping
-    public ResponseEntity<List<UserGetResponse>> findAll(@RequestParam (required = false) String firstName) {
-        var serviceResponse = service.findAll(firstName);
+    public ResponseEntity<List<UserGetResponse>> findAll(@RequestParam (required = false) String firstName,
+                                                         @RequestParam(required = false) Long after,
+                                                         @RequestParam(required = false) @Min(1) @Max(1000) Integer limit,
+                                                         @RequestParam(required = false) Set<String> fields) {
+        var paged = after != null || limit != null;
+        var pageSize = limit == null ? DEFAULT_PAGE_SIZE : limit;
+        if (fields != null && !fields.isEmpty()) {
+            return paged ? findPageProjected(firstName, after, pageSize, fields) : findAllProjected(firstName, fields);
+        }
+        if (!paged) {
+            var serviceResponse = service.findAll(firstName);
+            return ResponseEntity.ok(mapper.fromUserToUserGetResponse(serviceResponse));
+        }
+
+        var page = service.findPage(firstName, after, pageSize);
+        var response = mapper.fromUserToUserGetResponse(page.users());
+        return withNextCursor(page.nextCursor()).body(response);
+    }
+
+    private ResponseEntity<List<UserGetResponse>> findAllProjected(String firstName, Set<String> fields) {
+        var rows = service.findAll(firstName, fields);
+        return ResponseEntity.ok(mapper.fromTupleToUserGetResponse(rows, fields));
+    }
+
+    private ResponseEntity<List<UserGetResponse>> findPageProjected(String firstName, Long after, int limit, Set<String> fields) {
+        var page = service.findPage(firstName, after, limit, fields);
+        var response = mapper.fromTupleToUserGetResponse(page.rows(), fields);
+        return withNextCursor(page.nextCursor()).body(response);
+    }
+
+    private static ResponseEntity.BodyBuilder withNextCursor(Long nextCursor) {
+        var responseBuilder = ResponseEntity.ok();
+        if (nextCursor != null) {
+            responseBuilder.header(NEXT_CURSOR_HEADER, nextCursor.toString());
+        }
+        return responseBuilder;
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export() {
+        var writer = objectMapper.writerFor(UserGetResponse.class);
+        StreamingResponseBody body = outputStream -> service.exportAll(user -> {
+            try {
+                outputStream.write(writer.writeValueAsBytes(mapper.fromUserToUserGetResponse(user)));
+                outputStream.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    @GetMapping(params = "ids")
+    public ResponseEntity<BatchGetResponse<UserGetResponse>> findAllById(@RequestParam @Size(min = 1, max = 1000) List<Long> ids) {
+        var requestedIds = ids.stream().distinct().toList();
+        var serviceResponse = service.findAllById(requestedIds);
         var response = mapper.fromUserToUserGetResponse(serviceResponse);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(BatchGetResponse.of(requestedIds, response, UserGetResponse::id));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<UserGetResponse> findById(@PathVariable Long id) {
+    public ResponseEntity<UserGetResponse> findById(@PathVariable Long id, WebRequest request) {
         var serviceResponse = service.findById(id);
+        var eTag = String.valueOf(serviceResponse.getVersion());
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
         var responseDTO = mapper.fromUserToUserGetResponse(serviceResponse);
-        return ResponseEntity.ok(responseDTO);
+        return ResponseEntity.ok().eTag(eTag).body(responseDTO);
     }
 
     @PostMapping
@@ -45,6 +125,13 @@ public class UserController {
         return ResponseEntity.status(HttpStatus.CREATED).body(userPostResponse);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<UserBatchItemResponse>> createAll(@RequestBody @NotEmpty @Size(max = 1000) List<@Valid UserPostRequest> request) {
+        var users = mapper.fromUserPostRequestToUser(request);
+        var serviceResponse = service.createAll(users);
+        return ResponseEntity.ok(mapper.fromUserBatchItemToResponse(serviceResponse));
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteById(@PathVariable Long id) {
         service.deleteById(id);
@@ -2,9 +2,13 @@ package com.edson.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Builder
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @NoArgsConstructor
 @AllArgsConstructor
@@ -13,7 +17,8 @@ import lombok.*;
 public class User {
     @EqualsAndHashCode.Include
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_seq")
+    @SequenceGenerator(name = "user_seq", sequenceName = "user_seq", allocationSize = 50)
     private Long id;
     @Column(nullable = false)
     private String firstName;
@@ -21,4 +26,8 @@ public class User {
     private String lastName;
     @Column(nullable = false, unique = true)
     private String email;
+    // bumped by Hibernate on every update and exposed as the ETag of the user
+    @Version
+    @Column(nullable = false)
+    private Long version;
 }
@@ -0,0 +1,10 @@
+package com.edson.domain;
+
+/**
+ * Outcome of one element of a batch create. {@code error} is {@code null} when the user was created.
+ */
+public record UserBatchItem(int index, User user, String error) {
+    public boolean created() {
+        return error == null;
+    }
+}
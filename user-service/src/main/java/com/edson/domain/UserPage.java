@@ -0,0 +1,10 @@
+package com.edson.domain;
+
+import java.util.List;
+
+/**
+ * One slice of users ordered by id. {@code nextCursor} is the id to pass as {@code after}
+ * to fetch the following slice, or {@code null} on the last one.
+ */
+public record UserPage(List<User> users, Long nextCursor) {
+}
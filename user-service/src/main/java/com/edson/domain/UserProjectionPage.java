@@ -0,0 +1,11 @@
+package com.edson.domain;
+
+import jakarta.persistence.Tuple;
+
+import java.util.List;
+
+/**
+ * A {@link UserPage} holding only the requested columns of each user, aliased by field name.
+ */
+public record UserProjectionPage(List<Tuple> rows, Long nextCursor) {
+}
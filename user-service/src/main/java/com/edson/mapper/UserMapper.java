@@ -1,10 +1,13 @@
 package com.edson.mapper;
 
 import com.edson.domain.User;
+import com.edson.domain.UserBatchItem;
 import com.edson.request.UserPostRequest;
 import com.edson.request.UserPutRequest;
+import com.edson.response.UserBatchItemResponse;
 import com.edson.response.UserGetResponse;
 import com.edson.response.UserPostResponse;
+import jakarta.persistence.Tuple;
 import lombok.Generated;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -12,6 +15,7 @@ import org.mapstruct.MappingConstants;
 import org.mapstruct.factory.Mappers;
 
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.ThreadLocalRandom;
 
 @Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
@@ -22,9 +26,34 @@ public interface UserMapper {
     List<UserGetResponse> fromUserToUserGetResponse(List<User> user);
     UserGetResponse fromUserToUserGetResponse(User user);
 
+    default UserGetResponse fromTupleToUserGetResponse(Tuple row, Set<String> fields) {
+        return UserGetResponse.builder()
+                .id(fields.contains("id") ? row.get("id", Long.class) : null)
+                .firstName(fields.contains("firstName") ? row.get("firstName", String.class) : null)
+                .lastName(fields.contains("lastName") ? row.get("lastName", String.class) : null)
+                .email(fields.contains("email") ? row.get("email", String.class) : null)
+                .build();
+    }
+
+    default List<UserGetResponse> fromTupleToUserGetResponse(List<Tuple> rows, Set<String> fields) {
+        return rows.stream().map(row -> fromTupleToUserGetResponse(row, fields)).toList();
+    }
+
+    @Mapping(target = "version", ignore = true)
     User fromUserPostRequestToUser(UserPostRequest request);
 
     UserPostResponse fromUserToUserPostResponse(User entity);
 
+    @Mapping(target = "version", ignore = true)
     User fromUserPutRequestToUser(UserPutRequest request);
+
+    List<User> fromUserPostRequestToUser(List<UserPostRequest> requests);
+
+    @Mapping(target = "status", expression = "java(item.created() ? org.springframework.http.HttpStatus.CREATED.value() : org.springframework.http.HttpStatus.CONFLICT.value())")
+    @Mapping(target = "id", source = "user.id")
+    @Mapping(target = "email", source = "user.email")
+    @Mapping(target = "message", source = "error")
+    UserBatchItemResponse fromUserBatchItemToResponse(UserBatchItem item);
+
+    List<UserBatchItemResponse> fromUserBatchItemToResponse(List<UserBatchItem> items);
 }
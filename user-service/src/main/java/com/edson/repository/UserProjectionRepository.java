@@ -0,0 +1,18 @@
+package com.edson.repository;
+
+import jakarta.persistence.Tuple;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+import java.util.Set;
+
+public interface UserProjectionRepository {
+    List<String> PROJECTABLE_FIELDS = List.of("id", "firstName", "lastName", "email");
+
+    /**
+     * Selects only the requested columns, aliased by field name. The id is always selected because it
+     * drives ordering and cursors. Each filter applies when given, together with the others: {@code firstName}
+     * matches case-insensitively and {@code after} keeps only the users with a greater id.
+     */
+    List<Tuple> findProjected(Set<String> fields, String firstName, Long after, Limit limit);
+}
@@ -0,0 +1,50 @@
+package com.edson.repository;
+
+import com.edson.domain.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Selection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+@RequiredArgsConstructor
+class UserProjectionRepositoryImpl implements UserProjectionRepository {
+    private final EntityManager entityManager;
+
+    @Override
+    public List<Tuple> findProjected(Set<String> fields, String firstName, Long after, Limit limit) {
+        var builder = entityManager.getCriteriaBuilder();
+        var query = builder.createTupleQuery();
+        var user = query.from(User.class);
+
+        var selections = new ArrayList<Selection<?>>(PROJECTABLE_FIELDS.size());
+        for (var field : PROJECTABLE_FIELDS) {
+            if (field.equals("id") || fields.contains(field)) {
+                selections.add(user.get(field).alias(field));
+            }
+        }
+        query.multiselect(selections);
+
+        var predicates = new ArrayList<Predicate>(2);
+        if (firstName != null) {
+            predicates.add(builder.equal(builder.lower(user.get("firstName")), firstName.toLowerCase(Locale.ROOT)));
+        }
+        if (after != null) {
+            predicates.add(builder.greaterThan(user.get("id"), after));
+        }
+        query.where(predicates.toArray(Predicate[]::new));
+        query.orderBy(builder.asc(user.get("id")));
+
+        var typedQuery = entityManager.createQuery(query);
+        if (limit.isLimited()) {
+            typedQuery.setMaxResults(limit.max());
+        }
+        return typedQuery.getResultList();
+    }
+}
@@ -0,0 +1,7 @@
+package com.edson.response;
+
+import lombok.Builder;
+
+@Builder
+public record UserBatchItemResponse(int index, int status, Long id, String email, String message) {
+}
@@ -1,7 +1,10 @@
 package com.edson.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 
+// fields left out of a ?fields= projection are null and not serialized
 @Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record UserGetResponse(Long id, String firstName, String lastName, String email) {
 }
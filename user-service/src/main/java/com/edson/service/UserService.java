@@ -1,21 +1,38 @@
 package com.edson.service;
 
 import com.edson.domain.User;
+import com.edson.domain.UserBatchItem;
+import com.edson.domain.UserPage;
+import com.edson.domain.UserProjectionPage;
 import com.edson.exception.NotFoundException;
-import com.edson.repository.UserHardCodedRepository;
 import com.edson.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
 public class UserService {
+    public static final String USERS_CACHE = "users";
     private final UserRepository repository;
+    private final EntityManager entityManager;
 
     public List<User> findAll(String firstName) {
         if (firstName == null) {
@@ -24,42 +41,168 @@ public class UserService {
         return repository.findByFirstNameIgnoreCase(firstName);
     }
 
+    /**
+     * Up to {@code limit} users with an id above {@code after}, in id order, optionally filtered by {@code firstName}.
+     */
+    public UserPage findPage(String firstName, Long after, int limit) {
+        var start = after == null ? Long.MIN_VALUE : after;
+        var users = firstName == null
+                ? repository.findByIdGreaterThanOrderByIdAsc(start, Limit.of(limit + 1))
+                : repository.findByFirstNameIgnoreCaseAndIdGreaterThanOrderByIdAsc(firstName, start, Limit.of(limit + 1));
+        if (users.size() <= limit) {
+            return new UserPage(users, null);
+        }
+        var page = users.subList(0, limit);
+        return new UserPage(page, page.getLast().getId());
+    }
+
+    /**
+     * Same as {@link #findAll(String)}, selecting only the requested {@code fields}.
+     */
+    public List<Tuple> findAll(String firstName, Set<String> fields) {
+        assertFieldsAreProjectable(fields);
+        return repository.findProjected(fields, firstName, null, Limit.unlimited());
+    }
+
+    /**
+     * Same as {@link #findPage(String, Long, int)}, selecting only the requested {@code fields}.
+     */
+    public UserProjectionPage findPage(String firstName, Long after, int limit, Set<String> fields) {
+        assertFieldsAreProjectable(fields);
+        var rows = repository.findProjected(fields, firstName, after, Limit.of(limit + 1));
+        if (rows.size() <= limit) {
+            return new UserProjectionPage(rows, null);
+        }
+        var page = rows.subList(0, limit);
+        return new UserProjectionPage(page, page.getLast().get("id", Long.class));
+    }
+
+    /**
+     * Hands every user to {@code consumer} in id order while keeping a single row in the
+     * persistence context, so memory stays flat regardless of the table size.
+     */
+    @Transactional(readOnly = true)
+    public void exportAll(Consumer<User> consumer) {
+        try (var users = repository.streamAllOrderById()) {
+            users.forEach(user -> {
+                consumer.accept(user);
+                entityManager.detach(user);
+            });
+        }
+    }
+
+    /**
+     * Read-through lookup backed by the bounded {@value #USERS_CACHE} cache. Misses are not cached,
+     * so an unknown id keeps answering 404 until the user is created.
+     */
+    @Cacheable(cacheNames = USERS_CACHE, key = "#id")
     public User findById(Long id) {
         return repository.findById(id).orElseThrow(() -> new NotFoundException("User not found"));
     }
 
+    /**
+     * Loads every requested user with a single {@code in} query and returns them in the order of {@code ids}.
+     * Unknown ids are skipped.
+     */
+    public List<User> findAllById(List<Long> ids) {
+        var usersById = new HashMap<Long, User>(ids.size() * 2);
+        repository.findAllById(ids).forEach(user -> usersById.put(user.getId(), user));
+        return ids.stream().map(usersById::get).filter(Objects::nonNull).toList();
+    }
+
     @Transactional
+    @CachePut(cacheNames = USERS_CACHE, key = "#result.id")
     public User create(User user) {
+        user.setEmail(normalizeEmail(user.getEmail()));
         assertEmailDoesNotExist(user.getEmail());
         return repository.save(user);
     }
 
+    /**
+     * Creates every user whose email is not taken, either in the database or by an earlier element
+     * of the same batch. Existing emails are checked with a single query and the inserts are
+     * flushed as JDBC batches.
+     */
     @Transactional
+    public List<UserBatchItem> createAll(List<User> users) {
+        users.forEach(user -> user.setEmail(normalizeEmail(user.getEmail())));
+        var takenEmails = new HashSet<>(repository.findExistingEmails(users.stream().map(User::getEmail).toList()));
+        var items = new ArrayList<UserBatchItem>(users.size());
+        var usersToSave = new ArrayList<User>(users.size());
+
+        for (var index = 0; index < users.size(); index++) {
+            var user = users.get(index);
+            if (!takenEmails.add(user.getEmail())) {
+                items.add(new UserBatchItem(index, user, "Email %s already exists".formatted(user.getEmail())));
+                continue;
+            }
+            usersToSave.add(user);
+            items.add(new UserBatchItem(index, user, null));
+        }
+
+        repository.saveAll(usersToSave);
+        return items;
+    }
+
+    @Transactional
+    @CacheEvict(cacheNames = USERS_CACHE, key = "#id")
     public void deleteById(Long id) {
         this.asserUserExists(id);
         repository.deleteById(id);
     }
 
+    /**
+     * Replaces the user's fields on top of its current version. The version probe doubles as the
+     * existence check, and carrying it over lets Hibernate merge the request instead of rejecting
+     * it as stale, while still bumping the version that backs the user's ETag.
+     */
     @Transactional
+    @CacheEvict(cacheNames = USERS_CACHE, key = "#user.id")
     public void update(User user) {
-        this.findById(user.getId());
+        var currentVersion = repository.findVersionById(user.getId())
+                .orElseThrow(() -> new NotFoundException("User not found"));
+        user.setEmail(normalizeEmail(user.getEmail()));
         this.assertEmailDoesNotExist(user.getEmail(), user.getId());
+        user.setVersion(currentVersion);
         repository.save(user);
     }
 
     public void asserUserExists(Long id) {
-        this.findById(id);
+        if (!repository.existsById(id)) {
+            throw new NotFoundException("User not found");
+        }
     }
 
     public void assertEmailDoesNotExist(String email) {
-        repository.findByEmailIgnoreCase(email).ifPresent(UserService::throwEmailExistsException);
+        if (repository.existsByEmail(normalizeEmail(email))) {
+            throwEmailExistsException(email);
+        }
     }
 
     public void assertEmailDoesNotExist(String email, Long id) {
-        repository.findByEmailIgnoreCase(email).ifPresent(UserService::throwEmailExistsException);
+        if (repository.existsByEmailAndIdNot(normalizeEmail(email), id)) {
+            throwEmailExistsException(email);
+        }
+    }
+
+    private static void assertFieldsAreProjectable(Set<String> fields) {
+        var unknownFields = fields.stream()
+                .filter(field -> !UserRepository.PROJECTABLE_FIELDS.contains(field))
+                .sorted()
+                .toList();
+        if (!unknownFields.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown fields %s, expected any of %s".formatted(unknownFields, UserRepository.PROJECTABLE_FIELDS));
+        }
+    }
+
+    /**
+     * Emails are stored lower-cased, so uniqueness checks are exact matches on the unique email index.
+     */
+    private static String normalizeEmail(String email) {
+        return email == null ? null : email.toLowerCase(Locale.ROOT);
     }
 
-    private static void throwEmailExistsException(User user) {
-        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Email %s already exists".formatted(user.getEmail()));
+    private static void throwEmailExistsException(String email) {
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Email %s already exists".formatted(email));
     }
 }
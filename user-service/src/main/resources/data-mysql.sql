@@ -0,0 +1,6 @@
+-- Runs on every start after Hibernate has updated the schema, so every statement must be idempotent.
+
+-- Ids used to come from AUTO_INCREMENT. Hibernate emulates user_seq with a table that starts at 1, and the pooled
+-- optimizer hands out up to 50 ids below the stored value, so keep it at least one allocation above max(id).
+UPDATE user_seq
+SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 51 FROM `user`));
@@ -0,0 +1,84 @@
+package com.edson;
+
+import com.edson.domain.User;
+import com.edson.loadtest.LoadTestDriver;
+import com.edson.loadtest.LoadTestScenario;
+import com.edson.loadtest.LoadTestSettings;
+import com.edson.repository.UserRepository;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Mixed read/write workload against a running user-service backed by the H2 database of the test
+ * {@code application.yaml}, run with {@code mvn test -Pload-test}. Rate and duration come from
+ * {@link LoadTestSettings#fromSystemProperties()}, the report is written to {@code target/load-test}.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class UserServiceLoadTest {
+    private static final int SEEDED_USERS = 1_000;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository repository;
+
+    private List<Long> userIds;
+
+    @BeforeEach
+    void setUp() {
+        var users = IntStream.range(0, SEEDED_USERS)
+                .mapToObj(i -> User.builder()
+                        .firstName("firstName" + (i % 50))
+                        .lastName("lastName" + i)
+                        .email("seed%d@load.test".formatted(i))
+                        .build())
+                .toList();
+        userIds = repository.saveAll(users).stream().map(User::getId).toList();
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("mixed read/write workload on users completes without errors")
+    void mixedReadWriteWorkload() throws Exception {
+        var baseUri = "http://localhost:" + port + "/api/v1/users";
+
+        var scenarios = List.of(
+                new LoadTestScenario("GET /api/v1/users", 25,
+                        seq -> HttpRequest.newBuilder(URI.create(baseUri + "?limit=100"))),
+                new LoadTestScenario("GET /api/v1/users?firstName=", 15,
+                        seq -> HttpRequest.newBuilder(URI.create(baseUri + "?firstName=firstName" + (seq % 50)))),
+                new LoadTestScenario("GET /api/v1/users/{id}", 45,
+                        seq -> HttpRequest.newBuilder(URI.create(baseUri + "/" + userIds.get((int) (seq % userIds.size()))))),
+                new LoadTestScenario("POST /api/v1/users", 15,
+                        seq -> HttpRequest.newBuilder(URI.create(baseUri))
+                                .header("Content-Type", "application/json")
+                                .POST(HttpRequest.BodyPublishers.ofString(
+                                        "{\"firstName\":\"Load\",\"lastName\":\"User\",\"email\":\"load%d@load.test\"}".formatted(seq))))
+        );
+
+        try (var driver = new LoadTestDriver(scenarios)) {
+            var report = driver.run("user-service", LoadTestSettings.fromSystemProperties());
+
+            Assertions.assertThat(report.total().requests()).isPositive();
+            Assertions.assertThat(report.total().errors()).isZero();
+        }
+    }
+}
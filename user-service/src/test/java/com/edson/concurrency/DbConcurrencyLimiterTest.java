@@ -0,0 +1,125 @@
+package com.edson.concurrency;
+
+import com.edson.exception.ServiceUnavailableException;
+import com.edson.service.UserService;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.AspectJExpressionPointcut;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+@ExtendWith(MockitoExtension.class)
+class DbConcurrencyLimiterTest {
+    @Mock
+    private ProceedingJoinPoint joinPoint;
+
+    @Mock
+    private Signature signature;
+
+    private DbConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new DbConcurrencyLimiter(new DbConcurrencyLimiterProperties(1, Duration.ofMillis(10), Duration.ofSeconds(2)));
+    }
+
+    @Test
+    @DisplayName("limit proceeds and releases the permit when a slot is free")
+    void limit_ProceedsAndReleasesPermit_WhenSlotIsFree() throws Throwable {
+        // Given
+        BDDMockito.given(joinPoint.proceed()).willReturn("result");
+
+        // When
+        var actualResult = limiter.limit(joinPoint);
+
+        // Then
+        Assertions.assertThat(actualResult).isEqualTo("result");
+        Assertions.assertThat(limiter.availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("limit releases the permit when the call throws")
+    void limit_ReleasesPermit_WhenCallThrows() throws Throwable {
+        // Given
+        BDDMockito.given(joinPoint.proceed()).willThrow(new IllegalStateException("boom"));
+
+        // When & Then
+        Assertions.assertThatIllegalStateException().isThrownBy(() -> limiter.limit(joinPoint));
+        Assertions.assertThat(limiter.availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("limit throws ServiceUnavailableException with retry after when every slot is taken")
+    void limit_ThrowsServiceUnavailableException_WhenSaturated() throws Throwable {
+        // Given
+        var entered = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        BDDMockito.given(joinPoint.getSignature()).willReturn(signature);
+        BDDMockito.given(joinPoint.proceed()).willAnswer(invocation -> {
+            entered.countDown();
+            release.await();
+            return null;
+        });
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            executor.submit(() -> {
+                try {
+                    return limiter.limit(joinPoint);
+                } catch (Throwable e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            entered.await();
+
+            // When & Then
+            Assertions.assertThatExceptionOfType(ServiceUnavailableException.class)
+                    .isThrownBy(() -> limiter.limit(joinPoint))
+                    .satisfies(e -> {
+                        Assertions.assertThat(e.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+                        Assertions.assertThat(e.getRetryAfter()).isEqualTo(Duration.ofSeconds(2));
+                    });
+
+            release.countDown();
+        }
+
+        // Auditing interactions
+        Assertions.assertThat(limiter.availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("limit applies to the UserService calls but leaves the streaming export out")
+    void limit_SkipsExportAll() throws NoSuchMethodException {
+        // Given
+        var pointcut = new AspectJExpressionPointcut();
+        pointcut.setExpression(DbConcurrencyLimiter.LIMITED_CALLS);
+
+        // When
+        var findByIdLimited = pointcut.matches(UserService.class.getMethod("findById", Long.class), UserService.class);
+        var exportAllLimited = pointcut.matches(UserService.class.getMethod("exportAll", Consumer.class), UserService.class);
+
+        // Then
+        Assertions.assertThat(findByIdLimited).isTrue();
+        Assertions.assertThat(exportAllLimited).isFalse();
+    }
+
+    @Test
+    @DisplayName("constructor throws IllegalArgumentException when max concurrent calls is not positive")
+    void constructor_ThrowsIllegalArgumentException_WhenMaxConcurrentCallsIsNotPositive() {
+        var properties = new DbConcurrencyLimiterProperties(0, Duration.ofMillis(10), Duration.ofSeconds(1));
+
+        Assertions.assertThatIllegalArgumentException()
+                .isThrownBy(() -> new DbConcurrencyLimiter(properties));
+    }
+}
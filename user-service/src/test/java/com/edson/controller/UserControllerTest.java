@@ -1,24 +1,33 @@
 package com.edson.controller;
 
 import com.edson.domain.User;
+import com.edson.domain.UserBatchItem;
+import com.edson.domain.UserPage;
+import com.edson.domain.UserProjectionPage;
 import com.edson.exception.DefaultErrorMessage;
 import com.edson.exception.NotFoundException;
+import com.edson.exception.ServiceUnavailableException;
 import com.edson.mapper.UserMapper;
 import com.edson.request.UserPostRequest;
 import com.edson.request.UserPutRequest;
+import com.edson.response.BatchGetResponse;
+import com.edson.response.UserBatchItemResponse;
 import com.edson.response.UserGetResponse;
 import com.edson.response.UserPostResponse;
 import com.edson.service.UserService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.Tuple;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.BDDMockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -28,7 +37,10 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 @WebMvcTest(UserController.class)
@@ -75,7 +87,128 @@ public class UserControllerTest {
         response
                 .andExpect(MockMvcResultMatchers.status().isOk())
                 .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.header().doesNotExist(UserController.NEXT_CURSOR_HEADER))
                 .andExpect(MockMvcResultMatchers.content().json(expectedJson));
+
+        // Auditing interactions
+        BDDMockito.then(service).should(BDDMockito.never()).findPage(BDDMockito.any(), BDDMockito.any(), BDDMockito.anyInt());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/users?after=1&limit=1 returns 200 with one page and the next cursor header")
+    void findAll_ReturnsPageWithNextCursor_WhenMoreUsersExist() throws Exception {
+        // Given
+        var user02 = User.builder().id(2L).firstName("name02").lastName("lastName02").email("name01@lastName02").build();
+        var users = List.of(user02);
+        var userGetResponse02 = UserGetResponse.builder().id(2L).firstName("name02").lastName("lastName02").email("name01@lastName02").build();
+        var expectedJson = objectMapper.writeValueAsString(List.of(userGetResponse02));
+
+        BDDMockito.given(service.findPage(null, 1L, 1)).willReturn(new UserPage(users, 2L));
+        BDDMockito.given(mapper.fromUserToUserGetResponse(users)).willReturn(List.of(userGetResponse02));
+
+        // When
+        var response = mockMvc.perform(MockMvcRequestBuilders.get(URI)
+                .param("after", "1")
+                .param("limit", "1"));
+
+        // Then
+        response
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string(UserController.NEXT_CURSOR_HEADER, "2"))
+                .andExpect(MockMvcResultMatchers.content().json(expectedJson));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/users?firstName=name02&limit=1 returns 200 with one page of the filtered users and the next cursor header")
+    void findAll_ReturnsFilteredPage_WhenNameAndLimitAreGiven() throws Exception {
+        // Given
+        var user02 = User.builder().id(2L).firstName("name02").lastName("lastName02").email("name01@lastName02").build();
+        var users = List.of(user02);
+        var userGetResponse02 = UserGetResponse.builder().id(2L).firstName("name02").lastName("lastName02").email("name01@lastName02").build();
+        var expectedJson = objectMapper.writeValueAsString(List.of(userGetResponse02));
+
+        BDDMockito.given(service.findPage("name02", null, 1)).willReturn(new UserPage(users, 2L));
+        BDDMockito.given(mapper.fromUserToUserGetResponse(users)).willReturn(List.of(userGetResponse02));
+
+        // When
+        var response = mockMvc.perform(MockMvcRequestBuilders.get(URI)
+                .param("firstName", "name02")
+                .param("limit", "1"));
+
+        // Then
+        response
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string(UserController.NEXT_CURSOR_HEADER, "2"))
+                .andExpect(MockMvcResultMatchers.content().json(expectedJson));
+
+        // Auditing interactions
+        BDDMockito.then(service).should(BDDMockito.never()).findAll(BDDMockito.any());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/users?fields=id,firstName&limit=100 returns 200 with only the requested fields")
+    void findAll_ReturnsOnlyRequestedFields_WhenFieldsAreGiven() throws Exception {
+        // Given
+        var fields = Set.of("id", "firstName");
+        List<Tuple> rows = List.of();
+        var userGetResponse01 = UserGetResponse.builder().id(1L).firstName("name01").build();
+
+        BDDMockito.given(service.findPage(null, null, 100, fields)).willReturn(new UserProjectionPage(rows, 1L));
+        BDDMockito.given(mapper.fromTupleToUserGetResponse(rows, fields)).willReturn(List.of(userGetResponse01));
+
+        // When
+        var response = mockMvc.perform(MockMvcRequestBuilders.get(URI)
+                .param("fields", "id,firstName")
+                .param("limit", "100"));
+
+        // Then
+        response
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string(UserController.NEXT_CURSOR_HEADER, "1"))
+                .andExpect(MockMvcResultMatchers.content().string("[{\"id\":1,\"firstName\":\"name01\"}]"));
+
+        // Auditing interactions
+        BDDMockito.then(service).should(BDDMockito.never()).findPage(BDDMockito.any(), BDDMockito.any(), BDDMockito.anyInt());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/users?ids=2,99,2 returns 200 with the users found and the missing ids")
+    void findAllById_ReturnsUsersAndMissingIds() throws Exception {
+        // Given
+        var user02 = User.builder().id(2L).firstName("name02").lastName("lastName02").email("name01@lastName02").build();
+        var userGetResponse02 = UserGetResponse.builder().id(2L).firstName("name02").lastName("lastName02").email("name01@lastName02").build();
+        var expectedJson = objectMapper.writeValueAsString(new BatchGetResponse<>(List.of(userGetResponse02), List.of(99L)));
+
+        BDDMockito.given(service.findAllById(List.of(2L, 99L))).willReturn(List.of(user02));
+        BDDMockito.given(mapper.fromUserToUserGetResponse(List.of(user02))).willReturn(List.of(userGetResponse02));
+
+        // When
+        var response = mockMvc.perform(MockMvcRequestBuilders.get(URI)
+                .param("ids", "2,99,2"));
+
+        // Then
+        response
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().json(expectedJson, true));
+
+        // Auditing interactions
+        BDDMockito.then(service).should(BDDMockito.never()).findPage(BDDMockito.any(), BDDMockito.any(), BDDMockito.anyInt());
+    }
+
+    @ParameterizedTest
+    @DisplayName("GET /api/v1/users returns 400 Bad request when limit is out of range")
+    @ValueSource(strings = {"0", "1001"})
+    void findAll_ReturnsBadRequest_WhenLimitIsOutOfRange(String limit) throws Exception {
+        // When
+        var response = mockMvc.perform(MockMvcRequestBuilders.get(URI)
+                .param("limit", limit));
+
+        // Then
+        response
+                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+
+        // Auditing interactions
+        BDDMockito.then(service).should(BDDMockito.never()).findPage(BDDMockito.any(), BDDMockito.any(), BDDMockito.anyInt());
     }
 
     @Test
@@ -133,12 +266,47 @@ public class UserControllerTest {
                 .andExpect(MockMvcResultMatchers.content().json(expectedJson));
     }
 
+    @Test
+    @DisplayName("GET /api/v1/users/export returns 200 with one JSON document per line")
+    void export_ReturnsNdjson_WhenSuccessful() throws Exception {
+        // Given
+        var user01 = User.builder().id(1L).firstName("name01").lastName("lastName01").email("name01@lastName01").build();
+        var user02 = User.builder().id(2L).firstName("name02").lastName("lastName02").email("name01@lastName02").build();
+        var userGetResponse01 = UserGetResponse.builder().id(1L).firstName("name01").lastName("lastName01").email("name01@lastName01").build();
+        var userGetResponse02 = UserGetResponse.builder().id(2L).firstName("name02").lastName("lastName02").email("name01@lastName02").build();
+        var expectedBody = objectMapper.writeValueAsString(userGetResponse01) + "\n" + objectMapper.writeValueAsString(userGetResponse02) + "\n";
+
+        BDDMockito.willAnswer(invocation -> {
+            Consumer<User> consumer = invocation.getArgument(0);
+            consumer.accept(user01);
+            consumer.accept(user02);
+            return null;
+        }).given(service).exportAll(BDDMockito.any());
+        BDDMockito.given(mapper.fromUserToUserGetResponse(user01)).willReturn(userGetResponse01);
+        BDDMockito.given(mapper.fromUserToUserGetResponse(user02)).willReturn(userGetResponse02);
+
+        // When
+        var asyncResult = mockMvc.perform(MockMvcRequestBuilders.get(URI + "/export"))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+        var response = mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(asyncResult));
+
+        // Then
+        response
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(MockMvcResultMatchers.content().string(expectedBody));
+
+        // Auditing interactions
+        BDDMockito.then(service).should(BDDMockito.never()).findAll(BDDMockito.any());
+    }
+
     @Test
     @DisplayName("GET /api/v1/users/{id} returns HTTP STATUS 200 with a user when id exists")
     void findById_ReturnsAUser_WhenIdExists() throws Exception {
         // Given
         var userId = 1L;
-        User user = User.builder().id(1L).firstName("name01").lastName("lastName01").email("name01@lastName01").build();
+        User user = User.builder().id(1L).firstName("name01").lastName("lastName01").email("name01@lastName01").version(3L).build();
         UserGetResponse responseDTO = UserGetResponse.builder()
                 .id(user.getId())
                 .firstName(user.getFirstName())
@@ -157,10 +325,33 @@ public class UserControllerTest {
         // Then
         responseOfRequest
                 .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, "\"3\""))
                 .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(MockMvcResultMatchers.content().json(expectedJson));
     }
 
+    @Test
+    @DisplayName("GET /api/v1/users/{id} returns HTTP STATUS 304 without mapping when the ETag still matches")
+    void findById_ReturnsNotModified_WhenETagMatches() throws Exception {
+        // Given
+        var userId = 1L;
+        User user = User.builder().id(1L).firstName("name01").lastName("lastName01").email("name01@lastName01").version(4L).build();
+        BDDMockito.given(service.findById(userId)).willReturn(user);
+
+        // When
+        var responseOfRequest = mockMvc.perform(MockMvcRequestBuilders.get(URI + "/{id}", userId)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"4\""));
+
+        // Then
+        responseOfRequest
+                .andExpect(MockMvcResultMatchers.status().isNotModified())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, "\"4\""))
+                .andExpect(MockMvcResultMatchers.content().string(""));
+
+        // Auditing interactions
+        BDDMockito.then(mapper).shouldHaveNoInteractions();
+    }
+
     @Test
     @DisplayName("GET /api/v1/users/{id} returns HTTP STATUS 404 when id does not exists")
     void findById_ReturnsNotFound_WhenIdDoesNotExists() throws Exception {
@@ -180,6 +371,26 @@ public class UserControllerTest {
                 .andExpect(MockMvcResultMatchers.content().json(expectedJson));
     }
 
+    @Test
+    @DisplayName("GET /api/v1/users/{id} returns HTTP STATUS 503 with Retry-After when the database is saturated")
+    void findById_ReturnsServiceUnavailable_WhenDatabaseIsSaturated() throws Exception {
+        // Given
+        var id = 1L;
+
+        String errorMessage = "Too many concurrent requests, try again later";
+        var expectedJson = objectMapper.writeValueAsString(new DefaultErrorMessage(HttpStatus.SERVICE_UNAVAILABLE.value(), errorMessage));
+        BDDMockito.given(service.findById(id)).willThrow(new ServiceUnavailableException(errorMessage, Duration.ofSeconds(2)));
+
+        // When
+        var responseOfRequest = mockMvc.perform(MockMvcRequestBuilders.get(URI + "/{id}", id));
+
+        // Then
+        responseOfRequest
+                .andExpect(MockMvcResultMatchers.status().isServiceUnavailable())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.RETRY_AFTER, "2"))
+                .andExpect(MockMvcResultMatchers.content().json(expectedJson));
+    }
+
     @Test
     @DisplayName("POST /api/v1/users return HTTP STATUS 201 when create a user")
     void create_ReturnsCreated_WhenSuccessful() throws Exception {
@@ -224,6 +435,67 @@ public class UserControllerTest {
                 .andExpect(MockMvcResultMatchers.content().json(expectedJson));
     }
 
+    @Test
+    @DisplayName("POST /api/v1/users/batch returns 200 with one result per element")
+    void createAll_ReturnsItemResults_WhenSuccessful() throws Exception {
+        // Given
+        var requests = List.of(
+                UserPostRequest.builder().firstName("Juca").lastName("Doe").email("juca@doe.com").build(),
+                UserPostRequest.builder().firstName("Maria").lastName("Doe").email("juca@doe.com").build()
+        );
+        var juca = User.builder().firstName("Juca").lastName("Doe").email("juca@doe.com").build();
+        var maria = User.builder().firstName("Maria").lastName("Doe").email("juca@doe.com").build();
+        var users = List.of(juca, maria);
+        var items = List.of(
+                new UserBatchItem(0, juca, null),
+                new UserBatchItem(1, maria, "Email juca@doe.com already exists")
+        );
+        var itemResponses = List.of(
+                UserBatchItemResponse.builder().index(0).status(201).id(1L).email("juca@doe.com").build(),
+                UserBatchItemResponse.builder().index(1).status(409).email("juca@doe.com").message("Email juca@doe.com already exists").build()
+        );
+        var expectedJson = objectMapper.writeValueAsString(itemResponses);
+
+        BDDMockito.given(mapper.fromUserPostRequestToUser(requests)).willReturn(users);
+        BDDMockito.given(service.createAll(users)).willReturn(items);
+        BDDMockito.given(mapper.fromUserBatchItemToResponse(items)).willReturn(itemResponses);
+
+        // When
+        var response = mockMvc.perform(MockMvcRequestBuilders.post(URI + "/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(requests)));
+
+        // Then
+        response
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().json(expectedJson));
+
+        // Auditing interactions
+        BDDMockito.then(service).should(BDDMockito.never()).create(BDDMockito.any(User.class));
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/users/batch returns 400 Bad request when one element is invalid")
+    void createAll_ReturnsBadRequest_WhenOneElementIsInvalid() throws Exception {
+        // Given
+        var requests = List.of(
+                UserPostRequest.builder().firstName("Juca").lastName("Doe").email("juca@doe.com").build(),
+                UserPostRequest.builder().firstName("").lastName("Doe").email("email@@doe.com").build()
+        );
+
+        // When
+        var response = mockMvc.perform(MockMvcRequestBuilders.post(URI + "/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(requests)));
+
+        // Then
+        response
+                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+
+        // Auditing interactions
+        BDDMockito.then(service).should(BDDMockito.never()).createAll(BDDMockito.anyList());
+    }
+
     @Test
     @DisplayName("DELETE /api/v1/users/{id} returns HTTP STATUS 204 with empty JSON when success")
     void deleteById_ReturnsNoContent_WhenSuccess() throws Exception {
@@ -0,0 +1,124 @@
+package com.edson.repository;
+
+import com.edson.domain.User;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.TupleElement;
+import org.assertj.core.api.Assertions;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Set;
+
+// Second-level and query cache entries are only shared once the writing transaction has committed
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserRepositoryTest {
+    @Autowired
+    private UserRepository repository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User testUser01;
+
+    @BeforeEach
+    void setUp() {
+        testUser01 = User.builder().firstName("Maria").lastName("Doe").email("maria@doe.com").build();
+        repository.saveAll(List.of(
+                testUser01,
+                User.builder().firstName("Juca").lastName("Doe").email("juca@doe.com").build()
+        ));
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("findByFirstNameIgnoreCase serves repeated identical queries from the query cache")
+    void findByFirstNameIgnoreCase_ServesRepeatedQueriesFromQueryCache() {
+        // When
+        var first = repository.findByFirstNameIgnoreCase("maria");
+        var second = repository.findByFirstNameIgnoreCase("maria");
+
+        // Then
+        Assertions.assertThat(second).extracting(User::getEmail).containsExactlyElementsOf(first.stream().map(User::getEmail).toList());
+        Assertions.assertThat(statistics.getQueryCacheMissCount()).isEqualTo(1);
+        Assertions.assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+        Assertions.assertThat(statistics.getQueryExecutionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("findByFirstNameIgnoreCase goes back to the database after a user is updated")
+    void findByFirstNameIgnoreCase_DoesNotServeStaleResults_AfterUpdate() {
+        // Given
+        repository.findByFirstNameIgnoreCase("maria");
+        testUser01.setLastName("Updated");
+
+        // When
+        repository.save(testUser01);
+        var actualResult = repository.findByFirstNameIgnoreCase("maria");
+
+        // Then
+        Assertions.assertThat(actualResult).extracting(User::getLastName).containsExactly("Updated");
+        Assertions.assertThat(statistics.getQueryExecutionCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("findById serves the entity from the second-level cache after the first load")
+    void findById_ServesEntityFromSecondLevelCache() {
+        // When
+        var actualResult = repository.findById(testUser01.getId());
+
+        // Then
+        Assertions.assertThat(actualResult).isPresent();
+        Assertions.assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(1);
+        Assertions.assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("findProjected selects only the requested fields, aliased by name, after the cursor")
+    void findProjected_SelectsOnlyRequestedFields() {
+        // When
+        var actualResult = repository.findProjected(Set.of("firstName"), null, testUser01.getId(), Limit.of(10));
+
+        // Then
+        Assertions.assertThat(actualResult).singleElement().satisfies(row -> {
+            Assertions.assertThat(row.getElements()).extracting(TupleElement::getAlias).containsExactly("id", "firstName");
+            Assertions.assertThat(row.get("firstName", String.class)).isEqualTo("Juca");
+        });
+        Assertions.assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("findProjected applies the firstName filter and the cursor together")
+    void findProjected_AppliesFirstNameAndCursorTogether() {
+        // Given
+        var laterMaria = repository.save(User.builder().firstName("Maria").lastName("Silva").email("maria@silva.com").build());
+
+        // When
+        var actualResult = repository.findProjected(Set.of("email"), "MARIA", testUser01.getId(), Limit.of(10));
+
+        // Then
+        Assertions.assertThat(actualResult).singleElement().satisfies(row -> {
+            Assertions.assertThat(row.get("id", Long.class)).isEqualTo(laterMaria.getId());
+            Assertions.assertThat(row.get("email", String.class)).isEqualTo("maria@silva.com");
+        });
+    }
+}
@@ -0,0 +1,136 @@
+package com.edson.service;
+
+import com.edson.domain.User;
+import com.edson.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.persistence.EntityManager;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.BDDMockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.Optional;
+
+@SpringJUnitConfig
+class UserServiceCacheTest {
+    @Autowired
+    private UserService service;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @MockitoBean
+    private UserRepository repository;
+
+    @MockitoBean
+    private EntityManager entityManager;
+
+    private User testUser01;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(UserService.USERS_CACHE).clear();
+        testUser01 = User.builder()
+                .id(1L)
+                .firstName("testUser01")
+                .lastName("lastName")
+                .email("testuser01@user.com")
+                .build();
+    }
+
+    @Test
+    @DisplayName("findById hits the database once and serves repeated reads from the cache")
+    void findById_ServesRepeatedReadsFromCache() {
+        // Given
+        BDDMockito.given(repository.findById(1L)).willReturn(Optional.of(testUser01));
+
+        // When
+        var first = service.findById(1L);
+        var second = service.findById(1L);
+
+        // Then
+        Assertions.assertThat(second).isSameAs(first);
+        var stats = ((CaffeineCache) cacheManager.getCache(UserService.USERS_CACHE)).getNativeCache().stats();
+        Assertions.assertThat(stats.hitCount()).isEqualTo(1);
+        Assertions.assertThat(stats.missCount()).isEqualTo(1);
+
+        // Auditing interactions
+        BDDMockito.then(repository).should().findById(1L);
+    }
+
+    @Test
+    @DisplayName("update evicts the cached user so the next read goes to the database")
+    void update_EvictsCachedUser() {
+        // Given
+        BDDMockito.given(repository.findById(1L)).willReturn(Optional.of(testUser01));
+        BDDMockito.given(repository.findVersionById(1L)).willReturn(Optional.of(0L));
+        service.findById(1L);
+
+        // When
+        service.update(testUser01);
+        service.findById(1L);
+
+        // Then
+
+        // Auditing interactions
+        BDDMockito.then(repository).should(BDDMockito.times(2)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("deleteById evicts the cached user so the next read goes to the database")
+    void deleteById_EvictsCachedUser() {
+        // Given
+        BDDMockito.given(repository.findById(1L)).willReturn(Optional.of(testUser01));
+        BDDMockito.given(repository.existsById(1L)).willReturn(true);
+        service.findById(1L);
+
+        // When
+        service.deleteById(1L);
+        service.findById(1L);
+
+        // Then
+
+        // Auditing interactions
+        BDDMockito.then(repository).should(BDDMockito.times(2)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("create puts the persisted user in the cache")
+    void create_PutsPersistedUserInCache() {
+        // Given
+        BDDMockito.given(repository.save(testUser01)).willReturn(testUser01);
+
+        // When
+        service.create(testUser01);
+        var actualResult = service.findById(1L);
+
+        // Then
+        Assertions.assertThat(actualResult).isSameAs(testUser01);
+
+        // Auditing interactions
+        BDDMockito.then(repository).should(BDDMockito.never()).findById(1L);
+    }
+
+    @Configuration
+    @EnableCaching
+    @Import(UserService.class)
+    static class Config {
+        @Bean
+        CacheManager cacheManager() {
+            var cacheManager = new CaffeineCacheManager(UserService.USERS_CACHE);
+            cacheManager.setCaffeine(Caffeine.newBuilder().maximumSize(100).recordStats());
+            return cacheManager;
+        }
+    }
+}
@@ -1,8 +1,9 @@
 package com.edson.service;
 
 import com.edson.domain.User;
-import com.edson.repository.UserHardCodedRepository;
+import com.edson.domain.UserBatchItem;
 import com.edson.repository.UserRepository;
+import jakarta.persistence.EntityManager;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,6 +14,7 @@ import org.mockito.BDDMockito;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.HttpStatus;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.web.server.ResponseStatusException;
@@ -20,6 +22,7 @@ import org.springframework.web.server.ResponseStatusException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @ExtendWith(MockitoExtension.class)
 class UserServiceTest {
@@ -29,6 +32,9 @@ class UserServiceTest {
     @Mock
     private UserRepository repository;
 
+    @Mock
+    private EntityManager entityManager;
+
     private User testUser01, testUser02;
     private List<User> users;
 
@@ -93,6 +99,116 @@ class UserServiceTest {
         BDDMockito.then(repository).should(BDDMockito.never()).findAll();
     }
 
+    @Test
+    @DisplayName("findPage returns the first page and the next cursor when more users exist")
+    void findPage_ReturnsPageAndNextCursor_WhenMoreUsersExist() {
+        // Given
+        BDDMockito.given(repository.findByIdGreaterThanOrderByIdAsc(Long.MIN_VALUE, Limit.of(2))).willReturn(users);
+
+        // When
+        var actualResult = service.findPage(null, null, 1);
+
+        // Then
+        Assertions.assertThat(actualResult.users())
+                .as("Check that only the requested number of users is returned")
+                .containsExactly(testUser01);
+        Assertions.assertThat(actualResult.nextCursor())
+                .as("Check that the cursor points to the last user of the page")
+                .isEqualTo(testUser01.getId());
+    }
+
+    @Test
+    @DisplayName("findPage pages the filtered users when firstName is given")
+    void findPage_ReturnsFilteredPage_WhenFirstNameIsGiven() {
+        // Given
+        var firstName = testUser02.getFirstName();
+        var after = testUser01.getId();
+        BDDMockito.given(repository.findByFirstNameIgnoreCaseAndIdGreaterThanOrderByIdAsc(firstName, after, Limit.of(2)))
+                .willReturn(List.of(testUser02));
+
+        // When
+        var actualResult = service.findPage(firstName, after, 1);
+
+        // Then
+        Assertions.assertThat(actualResult.users()).containsExactly(testUser02);
+        Assertions.assertThat(actualResult.nextCursor()).isNull();
+
+        // Auditing interactions
+        BDDMockito.then(repository).should(BDDMockito.never()).findByFirstNameIgnoreCase(BDDMockito.any());
+        BDDMockito.then(repository).should(BDDMockito.never()).findByIdGreaterThanOrderByIdAsc(BDDMockito.any(), BDDMockito.any());
+    }
+
+    @Test
+    @DisplayName("findAllById loads the users in one call and returns them in the requested order")
+    void findAllById_ReturnsUsersInRequestedOrder() {
+        // Given
+        var ids = List.of(2L, 99L, 1L);
+        BDDMockito.given(repository.findAllById(ids)).willReturn(List.of(testUser01, testUser02));
+
+        // When
+        var actualResult = service.findAllById(ids);
+
+        // Then
+        Assertions.assertThat(actualResult).containsExactly(testUser02, testUser01);
+
+        // Auditing interactions
+        BDDMockito.then(repository).should().findAllById(ids);
+        BDDMockito.then(repository).shouldHaveNoMoreInteractions();
+    }
+
+    @Test
+    @DisplayName("findPage with fields throws bad request when a field cannot be projected")
+    void findPage_ThrowsBadRequest_WhenFieldIsUnknown() {
+        // When & Then
+        Assertions.assertThatExceptionOfType(ResponseStatusException.class)
+                .isThrownBy(() -> service.findPage(null, null, 10, Set.of("id", "password")))
+                .withMessageContaining("[password]")
+                .extracting(ResponseStatusException::getStatusCode)
+                .isEqualTo(HttpStatus.BAD_REQUEST);
+
+        // Auditing interactions
+        BDDMockito.then(repository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("findPage returns the last page without next cursor when no more users exist")
+    void findPage_ReturnsPageWithoutNextCursor_WhenNoMoreUsersExist() {
+        // Given
+        var after = testUser01.getId();
+        BDDMockito.given(repository.findByIdGreaterThanOrderByIdAsc(after, Limit.of(11))).willReturn(List.of(testUser02));
+
+        // When
+        var actualResult = service.findPage(null, after, 10);
+
+        // Then
+        Assertions.assertThat(actualResult.users()).containsExactly(testUser02);
+        Assertions.assertThat(actualResult.nextCursor()).isNull();
+
+        // Auditing interactions
+        BDDMockito.then(repository).should(BDDMockito.never()).findAll();
+    }
+
+    @Test
+    @DisplayName("exportAll hands every user to the consumer and detaches it afterwards")
+    void exportAll_ConsumesAndDetachesEveryUser() {
+        // Given
+        BDDMockito.given(repository.streamAllOrderById()).willReturn(users.stream());
+        var exported = new ArrayList<User>();
+
+        // When
+        service.exportAll(exported::add);
+
+        // Then
+        Assertions.assertThat(exported)
+                .as("Check that users are exported in repository order")
+                .containsExactly(testUser01, testUser02);
+
+        // Auditing interactions
+        BDDMockito.then(entityManager).should().detach(testUser01);
+        BDDMockito.then(entityManager).should().detach(testUser02);
+        BDDMockito.then(repository).should(BDDMockito.never()).findAll();
+    }
+
     @Test
     @DisplayName("findById returns user when user exists")
     void findById_ReturnsUser_WhenUserExists() {
@@ -156,12 +272,65 @@ class UserServiceTest {
         BDDMockito.then(repository).should().save(newUser);
     }
 
+    @Test
+    @DisplayName("create throws bad request when email already exists ignoring case")
+    void create_ThrowsBadRequest_WhenEmailAlreadyExists() {
+        // Given
+        var newUser = User.builder()
+                .firstName("Maria")
+                .lastName("Doe")
+                .email("Maria@Doe.com")
+                .build();
+
+        BDDMockito.given(repository.existsByEmail("maria@doe.com")).willReturn(true);
+
+        // When & Then
+        Assertions.assertThatExceptionOfType(ResponseStatusException.class)
+                .isThrownBy(() -> service.create(newUser))
+                .withMessageContaining("already exists")
+                .extracting(ResponseStatusException::getStatusCode)
+                .isEqualTo(HttpStatus.BAD_REQUEST);
+
+        // Auditing interactions
+        BDDMockito.then(repository).should(BDDMockito.never()).save(BDDMockito.any(User.class));
+    }
+
+    @Test
+    @DisplayName("createAll saves new users and reports emails already taken in the database or in the batch")
+    void createAll_SavesNewUsersAndReportsTakenEmails() {
+        // Given
+        var existingEmailUser = User.builder().firstName("Juca").lastName("Doe").email("Existing@Doe.com").build();
+        var newUser = User.builder().firstName("Maria").lastName("Doe").email("maria@doe.com").build();
+        var repeatedEmailUser = User.builder().firstName("Mary").lastName("Doe").email("MARIA@doe.com").build();
+        var batch = List.of(existingEmailUser, newUser, repeatedEmailUser);
+
+        BDDMockito.given(repository.findExistingEmails(List.of("existing@doe.com", "maria@doe.com", "maria@doe.com")))
+                .willReturn(List.of("existing@doe.com"));
+
+        // When
+        var actualResult = service.createAll(batch);
+
+        // Then
+        Assertions.assertThat(actualResult)
+                .as("Check that there is one result per element, in request order")
+                .extracting(UserBatchItem::index, UserBatchItem::created)
+                .containsExactly(
+                        Assertions.tuple(0, false),
+                        Assertions.tuple(1, true),
+                        Assertions.tuple(2, false)
+                );
+
+        // Auditing interactions
+        BDDMockito.then(repository).should().saveAll(List.of(newUser));
+        BDDMockito.then(repository).should(BDDMockito.never()).save(BDDMockito.any(User.class));
+    }
+
     @Test
     @DisplayName("deleteById removes user when user exists")
     void deleteById_RemovesUserWhenUserExists() {
         // Given
         var existentUserId = 1L;
-        BDDMockito.given(repository.findById(existentUserId)).willReturn(Optional.of(testUser01));
+        BDDMockito.given(repository.existsById(existentUserId)).willReturn(true);
 
         // When
         service.deleteById(existentUserId);
@@ -170,7 +339,7 @@ class UserServiceTest {
 
         // Auditing interactions
         BDDMockito.then(repository).should().deleteById(existentUserId);
-        BDDMockito.then(repository).should().findById(existentUserId);
+        BDDMockito.then(repository).should().existsById(existentUserId);
     }
 
     @Test
@@ -178,7 +347,7 @@ class UserServiceTest {
     void deleteById_ThrowsResponseStatusException_WhenUserDoesNotExists() {
         // Given
         var nonExistentId = 99L;
-        BDDMockito.given(repository.findById(nonExistentId)).willReturn(Optional.empty());
+        BDDMockito.given(repository.existsById(nonExistentId)).willReturn(false);
 
         // When & Then
         Assertions.assertThatExceptionOfType(ResponseStatusException.class)
@@ -188,7 +357,7 @@ class UserServiceTest {
                 .isEqualTo(HttpStatus.NOT_FOUND);
 
         // Auditing interactions
-        BDDMockito.then(repository).should().findById(nonExistentId);
+        BDDMockito.then(repository).should().existsById(nonExistentId);
         BDDMockito.then(repository).should(BDDMockito.never()).deleteById(nonExistentId);
     }
 
@@ -209,7 +378,8 @@ class UserServiceTest {
                 .email(newEmail)
                 .build();
 
-        BDDMockito.given(repository.findById(id)).willReturn(Optional.of(testUser01));
+        BDDMockito.given(repository.findVersionById(id)).willReturn(Optional.of(3L));
+        BDDMockito.given(repository.existsByEmailAndIdNot(newEmail, id)).willReturn(false);
         BDDMockito.given(repository.save(testUser01)).willReturn(testUser01);
 
         // When
@@ -224,7 +394,8 @@ class UserServiceTest {
                 .isNotNull()
                 .hasFieldOrPropertyWithValue("firstName", newFirstName)
                 .hasFieldOrPropertyWithValue("lastName", newLastName)
-                .hasFieldOrPropertyWithValue("email", newEmail);
+                .hasFieldOrPropertyWithValue("email", newEmail)
+                .hasFieldOrPropertyWithValue("version", 3L);
 
         // Aqui verificamos se o repositório foi chamado com o PRÓPRIO objeto userToBeUpdated.
         // O Mockito usa o método .equals() do objeto ou verifica a referencia de memória.
@@ -232,7 +403,32 @@ class UserServiceTest {
         // BDDMockito.then(repository).should().update(userToBeUpdated);
 
         // Auditing interactions
-//        BDDMockito.then(repository).should().findById(testUser01.getId());
+        BDDMockito.then(repository).should(BDDMockito.never()).findById(id);
+    }
+
+    @Test
+    @DisplayName("update throws bad request when email belongs to another user")
+    void update_ThrowsBadRequest_WhenEmailBelongsToAnotherUser() {
+        // Given
+        var userToBeUpdated = User.builder()
+                .id(1L)
+                .firstName("Juca")
+                .lastName("Doe")
+                .email("TestUser02@user.com")
+                .build();
+
+        BDDMockito.given(repository.findVersionById(1L)).willReturn(Optional.of(0L));
+        BDDMockito.given(repository.existsByEmailAndIdNot("testuser02@user.com", 1L)).willReturn(true);
+
+        // When & Then
+        Assertions.assertThatExceptionOfType(ResponseStatusException.class)
+                .isThrownBy(() -> service.update(userToBeUpdated))
+                .withMessageContaining("already exists")
+                .extracting(ResponseStatusException::getStatusCode)
+                .isEqualTo(HttpStatus.BAD_REQUEST);
+
+        // Auditing interactions
+        BDDMockito.then(repository).should(BDDMockito.never()).save(userToBeUpdated);
     }
 
     @Test
@@ -249,7 +445,7 @@ class UserServiceTest {
                 .email(newEmail)
                 .build();
 
-        BDDMockito.given(repository.findById(userToBeUpdated.getId())).willReturn(Optional.empty());
+        BDDMockito.given(repository.findVersionById(userToBeUpdated.getId())).willReturn(Optional.empty());
 
         // When
         // Then